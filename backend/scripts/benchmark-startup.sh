@@ -0,0 +1,59 @@
+#!/bin/bash
+# Time from JVM launch to the first successful /actuator/health, for the regular jar, the jar
+# with AOT enabled, and the fast-start layout with AOT and the AppCDS archive.
+#
+# Requires: scripts/build-faststart.sh to have run (its jars and app.jsa), curl, and the same
+# database environment (DB_URL / DB_USERNAME / DB_PASSWORD) for every run.
+#
+# Usage: scripts/benchmark-startup.sh [runs] [spring profiles]     (defaults: 5, prod)
+set -euo pipefail
+
+RUNS=${1:-5}
+PROFILES=${2:-prod}
+PORT=${PORT:-8080}
+HEALTH_URL="http://localhost:${PORT}/actuator/health"
+
+cd "$(dirname "$0")/.."
+BOOT_JAR=$(ls target/*.jar | grep -v original | head -1)
+FASTSTART_JAR=$(ls target/faststart/backend-*-faststart.jar | head -1)
+[ -f target/faststart/app.jsa ] || { echo "target/faststart/app.jsa missing, run scripts/build-faststart.sh" >&2; exit 1; }
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# prints milliseconds until the first 200 from the health endpoint
+measure() {
+  local started pid elapsed
+  started=$(now_ms)
+  "$@" --server.port="$PORT" > /dev/null 2>&1 &
+  pid=$!
+  until curl -fs -o /dev/null "$HEALTH_URL"; do
+    kill -0 "$pid" 2>/dev/null || { echo "failed"; return; }
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - started ))
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$elapsed"
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+run_mode() {
+  local name=$1
+  shift
+  local results=()
+  for _ in $(seq 1 "$RUNS"); do
+    results+=("$(measure "$@")")
+  done
+  printf '%-22s median %6s ms   runs: %s\n' "$name" "$(printf '%s\n' "${results[@]}" | grep -v failed | median)" "${results[*]}"
+}
+
+echo "Startup to first healthy response, ${RUNS} runs each (profiles: ${PROFILES})"
+run_mode "jar" java -Dspring.profiles.active="$PROFILES" -jar "$BOOT_JAR"
+run_mode "jar + AOT" java -Dspring.aot.enabled=true -Dspring.profiles.active="$PROFILES,faststart" -jar "$BOOT_JAR"
+run_mode "faststart (AOT + CDS)" java -XX:SharedArchiveFile=target/faststart/app.jsa -Dspring.aot.enabled=true \
+  -Dspring.profiles.active="$PROFILES,faststart" -jar "$FASTSTART_JAR"
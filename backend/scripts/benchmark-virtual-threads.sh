@@ -0,0 +1,76 @@
+#!/bin/bash
+# Compares platform-thread and virtual-thread request handling under high concurrency.
+#
+# Requires: Java 21, wrk (https://github.com/wg/wrk), a reachable database configured through
+# the usual DB_URL / DB_PASSWORD environment variables, and `ulimit -n` above the connection count.
+#
+# Usage: scripts/benchmark-virtual-threads.sh [connections] [duration]
+set -euo pipefail
+
+CONNECTIONS=${1:-5000}
+DURATION=${2:-60s}
+THREADS=${WRK_THREADS:-16}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+ENDPOINTS=("/api/stats?type=student" "/api/assignments/upcoming" "/api/grade/list")
+RESULTS_DIR=${RESULTS_DIR:-target/vthreads-benchmark}
+
+cd "$(dirname "$0")/.."
+mkdir -p "$RESULTS_DIR"
+
+echo "Building with Java 21 profile..."
+mvn -B -q -Pjava21 -DskipTests package
+JAR=$(ls target/*.jar | grep -v original | head -1)
+
+wait_for_health() {
+  for _ in $(seq 1 120); do
+    curl -fs "${BASE_URL}/actuator/health" > /dev/null && return 0
+    sleep 1
+  done
+  echo "Backend did not become healthy" >&2
+  return 1
+}
+
+login() {
+  curl -fs -H 'Content-Type: application/json' \
+    -d '{"email":"student@nxtclass.com","password":"Admin@123"}' \
+    "${BASE_URL}/api/auth/login" | sed -E 's/.*"token":"([^"]+)".*/\1/'
+}
+
+run_mode() {
+  local mode=$1 profiles=$2
+  echo "=== ${mode} (profiles: ${profiles:-default})"
+  # every wrk connection shares one user and one address; measure threading, not the rate limiter
+  java -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" --app.rate-limit.enabled=false \
+    --logging.level.root=WARN --logging.level.com.nxtclass=WARN > "${RESULTS_DIR}/${mode}-app.log" 2>&1 &
+  local pid=$!
+  wait_for_health
+  local token
+  token=$(login)
+
+  for endpoint in "${ENDPOINTS[@]}"; do
+    local name
+    name=$(echo "$endpoint" | tr '/?=' '___')
+    # Warm-up, then measured run
+    wrk -t"$THREADS" -c200 -d10s -H "Authorization: Bearer ${token}" "${BASE_URL}${endpoint}" > /dev/null
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --timeout 30s --latency \
+      -H "Authorization: Bearer ${token}" "${BASE_URL}${endpoint}" | tee "${RESULTS_DIR}/${mode}${name}.txt"
+  done
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform ""
+run_mode virtual "vthreads"
+
+echo
+echo "=== Summary (requests/sec, p50, p99)"
+for file in "${RESULTS_DIR}"/*_*.txt; do
+  rps=$(grep "Requests/sec" "$file" | awk '{print $2}')
+  p50=$(grep -E "^\s+50%" "$file" | awk '{print $2}')
+  p99=$(grep -E "^\s+99%" "$file" | awk '{print $2}')
+  printf "%-60s %12s %10s %10s\n" "$(basename "$file" .txt)" "$rps" "$p50" "$p99"
+done
+echo "Pinning reports (virtual mode):"
+grep -c "Carrier thread pinned" "${RESULTS_DIR}/virtual-app.log" || true
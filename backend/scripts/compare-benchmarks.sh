@@ -0,0 +1,23 @@
+#!/bin/bash
+# Compares two JMH JSON result files (from scripts/run-benchmarks.sh) benchmark by benchmark.
+# Lower is better for every benchmark in this module (average time per operation).
+#
+# Requires: jq
+# Usage: scripts/compare-benchmarks.sh target/jmh/<base>.json target/jmh/<candidate>.json
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+  echo "Usage: $0 <base.json> <candidate.json>" >&2
+  exit 1
+fi
+
+summarize() {
+  jq -r '.[] | [(.benchmark | split(".") | .[-2:] | join(".")) + ((.params // {}) | to_entries | map("[" + .key + "=" + .value + "]") | join("")),
+                 .primaryMetric.score, .primaryMetric.scoreError, .primaryMetric.scoreUnit] | @tsv' "$1"
+}
+
+join -t $'\t' <(summarize "$1" | sort) <(summarize "$2" | sort) |
+  awk -F '\t' 'BEGIN { printf "%-60s %14s %14s %9s  %s\n", "benchmark", "base", "candidate", "change", "unit" }
+    { change = ($2 == 0) ? 0 : ($5 - $2) / $2 * 100
+      flag = (change > 0 && ($5 - $6) > ($2 + $3)) ? "  regression" : ""
+      printf "%-60s %10.3f±%-3.2g %10.3f±%-3.2g %+8.1f%%  %s%s\n", $1, $2, $3, $5, $6, change, $4, flag }'
@@ -0,0 +1,51 @@
+#!/bin/bash
+# Compares the JVM jar and the native binary: time from launch to the first successful request,
+# resident memory once started, and resident memory after the smoke suite has run.
+#
+# Requires: both builds (mvn -Pprometheus package and
+# mvn -Pnative,prometheus -DskipTests native:compile), curl, and the database from
+# DB_URL / DB_USERNAME / DB_PASSWORD. Usage: scripts/compare-native.sh [spring profiles]   (default: prod)
+set -euo pipefail
+
+PROFILES=${1:-prod}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+
+cd "$(dirname "$0")/.."
+JAR=$(ls target/*.jar | grep -v original | head -1)
+NATIVE=target/nxtclass-backend
+[ -x "$NATIVE" ] || { echo "$NATIVE missing, build it with -Pnative native:compile" >&2; exit 1; }
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+rss_mb() {
+  echo $(( $(ps -o rss= -p "$1") / 1024 ))
+}
+
+run_variant() {
+  local name=$1
+  shift
+  local started pid first_ms startup_rss loaded_rss
+  started=$(now_ms)
+  "$@" --spring.profiles.active="$PROFILES" --server.port="$PORT" > "target/${name}.log" 2>&1 &
+  pid=$!
+  until curl -fs -o /dev/null "${BASE_URL}/actuator/health"; do
+    kill -0 "$pid" 2>/dev/null || { echo "$name exited, see target/${name}.log" >&2; return 1; }
+    sleep 0.02
+  done
+  first_ms=$(( $(now_ms) - started ))
+  startup_rss=$(rss_mb "$pid")
+
+  scripts/smoke-test.sh "$BASE_URL" > "target/${name}-smoke.log" || { kill "$pid"; echo "$name: smoke suite failed, see target/${name}-smoke.log" >&2; return 1; }
+  loaded_rss=$(rss_mb "$pid")
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  printf '%-8s first request %6d ms   RSS after start %5d MB   RSS after smoke suite %5d MB\n' \
+    "$name" "$first_ms" "$startup_rss" "$loaded_rss"
+}
+
+run_variant jvm java -jar "$JAR"
+run_variant native "$NATIVE"
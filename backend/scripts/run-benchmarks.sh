@@ -0,0 +1,22 @@
+#!/bin/bash
+# Runs the JMH benchmarks in src/jmh/java and writes JSON results named after the current commit,
+# so runs can be compared with scripts/compare-benchmarks.sh.
+#
+# Usage: scripts/run-benchmarks.sh [jmh arguments...]
+#   scripts/run-benchmarks.sh                                  # everything
+#   scripts/run-benchmarks.sh GradeSaveBenchmark -p sections=256
+#   scripts/run-benchmarks.sh JwtServiceBenchmark.generateToken -prof gc -f 1
+#   scripts/run-benchmarks.sh DtoConversionBenchmark -prof "async:event=alloc;output=flamegraph"
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RESULTS_DIR=${RESULTS_DIR:-target/jmh}
+COMMIT=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+if ! git diff --quiet HEAD 2>/dev/null; then
+  COMMIT="${COMMIT}-dirty"
+fi
+mkdir -p "$RESULTS_DIR"
+RESULT="${RESULTS_DIR}/${COMMIT}.json"
+
+mvn -B -q -Pjmh -DskipTests compile exec:exec -Djmh.args="$*" -Djmh.result="$(pwd)/${RESULT}"
+echo "Results written to ${RESULT}"
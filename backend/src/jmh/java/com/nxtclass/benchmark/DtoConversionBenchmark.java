@@ -0,0 +1,78 @@
+package com.nxtclass.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nxtclass.dto.GradeDTO;
+import com.nxtclass.dto.StudentDetailsDTO;
+import com.nxtclass.entity.Grade;
+import com.nxtclass.entity.Section;
+import com.nxtclass.entity.StudentDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code objectMapper.convertValue(entity, Dto.class)} conversions the list endpoints run
+ * once per row, using an ObjectMapper configured the way Spring Boot configures the application's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DtoConversionBenchmark {
+
+    private ObjectMapper objectMapper;
+    private StudentDetails student;
+    private Grade grade;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        student = new StudentDetails();
+        student.setIdentifier(1_700_000_000_000L);
+        student.setFirstName("Asha");
+        student.setLastName("Verma");
+        student.setEmail("asha.verma@nxtclass.com");
+        student.setPhoneNo("9876543210");
+        student.setGradeIdentifier(11L);
+        student.setSectionIdentifier(21L);
+        student.setAddress1("12 MG Road");
+        student.setPincode("560001");
+        student.setState("Karnataka");
+        student.setCountry("India");
+
+        grade = new Grade();
+        grade.setIdentifier(11L);
+        grade.setGrade("Grade 8");
+        grade.setDescription("Middle school");
+        for (int i = 0; i < 6; i++) {
+            Section section = new Section();
+            section.setIdentifier(20L + i);
+            section.setName("Section " + (char) ('A' + i));
+            section.setGrade(grade);
+            grade.getSections().add(section);
+        }
+    }
+
+    @Benchmark
+    public StudentDetailsDTO studentToDto() {
+        return objectMapper.convertValue(student, StudentDetailsDTO.class);
+    }
+
+    @Benchmark
+    public GradeDTO gradeWithSectionsToDto() {
+        return objectMapper.convertValue(grade, GradeDTO.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.nxtclass.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nxtclass.dto.GradeDTO;
+import com.nxtclass.dto.SectionDTO;
+import com.nxtclass.entity.Grade;
+import com.nxtclass.entity.Section;
+import com.nxtclass.repository.GradeRepo;
+import com.nxtclass.service.GradeAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The section reconciliation in {@link GradeAPI#save}: every incoming section is matched against
+ * the grade's existing sections. The repository is an in-memory stub, so only the reconciliation
+ * itself is measured, not the database.
+ * <p>
+ * save() replaces the grade's section list, so every call needs a fresh grade. Rebuilding it in a
+ * per-invocation setup would put JMH's setup overhead into a microsecond-scale score, so each
+ * iteration instead prepares {@link #BATCH} grades up front and one timed invocation saves them
+ * all; the score is per save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+@Fork(2)
+public class GradeSaveBenchmark {
+
+    static final int BATCH = 1_000;
+
+    @Param({"4", "32", "256"})
+    public int sections;
+
+    private GradeAPI gradeAPI;
+    private GradeDTO update;
+    private Grade[] fixtures;
+    private Grade stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gradeAPI = new GradeAPI(stubRepo(), new ObjectMapper());
+        update = new GradeDTO();
+        update.setIdentifier(11L);
+        update.setGrade("Grade 8");
+        List<SectionDTO> dtos = new ArrayList<>(sections);
+        for (int i = 0; i < sections; i++) {
+            SectionDTO dto = new SectionDTO();
+            // half renamed existing sections, half new ones
+            dto.setIdentifier(i % 2 == 0 ? 100L + i : null);
+            dto.setName("Renamed " + i);
+            dtos.add(dto);
+        }
+        update.setSections(dtos);
+    }
+
+    @Setup(Level.Iteration)
+    public void freshGrades() {
+        fixtures = new Grade[BATCH];
+        for (int g = 0; g < BATCH; g++) {
+            Grade grade = new Grade();
+            grade.setIdentifier(11L);
+            grade.setGrade("Grade 8");
+            for (int i = 0; i < sections; i++) {
+                Section section = new Section();
+                section.setIdentifier(100L + i);
+                section.setName("Section " + i);
+                section.setGrade(grade);
+                grade.getSections().add(section);
+            }
+            fixtures[g] = grade;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void save(Blackhole blackhole) {
+        for (Grade grade : fixtures) {
+            stored = grade;
+            blackhole.consume(gradeAPI.save(update));
+        }
+    }
+
+    private GradeRepo stubRepo() {
+        return (GradeRepo) Proxy.newProxyInstance(GradeRepo.class.getClassLoader(), new Class<?>[]{GradeRepo.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(stored);
+                    case "save" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
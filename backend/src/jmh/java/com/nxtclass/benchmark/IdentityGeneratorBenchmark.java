@@ -0,0 +1,89 @@
+package com.nxtclass.benchmark;
+
+import com.nxtclass.config.IdentityGeneratorClass;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The pooled-lo optimizer of a configured {@link IdentityGeneratorClass}: the in-memory path every
+ * id takes between block claims, single-threaded and under contention (as during a bulk submission
+ * fan-out alongside normal traffic). The {@code identifier_blocks} row is stood in for by a counter,
+ * so the claim itself (one UPDATE per block, in its own transaction) is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IdentityGeneratorBenchmark {
+
+    private StandardServiceRegistry registry;
+    private Optimizer optimizer;
+    private AccessCallback blocks;
+
+    @Setup
+    public void setUp() {
+        // enough of a registry for the generator's configuration; no database is opened
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .build();
+        IdentityGeneratorClass generator = new IdentityGeneratorClass();
+        generator.configure(new TypeConfiguration().getBasicTypeForJavaType(Long.class), new Properties(), registry);
+        optimizer = generator.getOptimizer();
+
+        AtomicLong nextBlock = new AtomicLong(1);
+        int blockSize = optimizer.getIncrementSize();
+        blocks = new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class);
+                value.initialize(nextBlock.getAndAdd(blockSize));
+                return value;
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return null;
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public Object generate() {
+        return optimizer.generate(blocks);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object generateContended() {
+        return optimizer.generate(blocks);
+    }
+}
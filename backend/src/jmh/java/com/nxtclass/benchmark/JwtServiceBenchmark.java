@@ -0,0 +1,52 @@
+package com.nxtclass.benchmark;
+
+import com.nxtclass.security.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue (login) and subject extraction (every authenticated request).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private UserDetails user;
+    private Long tenantId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService("mySecretKey123456789012345678901234567890", 86_400_000L);
+        user = User.withUsername("teacher@nxtclass.com").password("x").roles("TEACHER").build();
+        tenantId = 1L;
+        token = jwtService.generateToken(user, tenantId);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user, tenantId);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+}
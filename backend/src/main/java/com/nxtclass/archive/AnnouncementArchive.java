@@ -0,0 +1,177 @@
+package com.nxtclass.archive;
+
+import com.nxtclass.entity.Announcement;
+import com.nxtclass.event.ChangeJournal;
+import com.nxtclass.event.EntityChangeEvent;
+import com.nxtclass.tenant.TenantContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Storage for archived announcements. On Postgres {@code announcements_archive} is natively
+ * partitioned by year; elsewhere each year is its own {@code announcements_archive_<year>} table.
+ * Either way {@code announcement_archive_partitions} lists the years that exist, and reads only
+ * touch the years overlapping the requested range.
+ */
+@Component
+public class AnnouncementArchive {
+
+    static final String HOT_TABLE = "announcements";
+    private static final String ARCHIVE_TABLE = "announcements_archive";
+    private static final String COLUMNS = "id, title, content, author, date, created_at, updated_at, tenant_id";
+
+    private static final RowMapper<Announcement> ROW_MAPPER = (rs, rowNum) -> {
+        Announcement announcement = new Announcement(rs.getString("title"), rs.getString("content"),
+                rs.getString("author"), rs.getObject("date", LocalDate.class));
+        announcement.setId(rs.getLong("id"));
+        announcement.setTenantId(rs.getLong("tenant_id"));
+        announcement.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        if (rs.getTimestamp("updated_at") != null) {
+            announcement.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+        }
+        return announcement;
+    };
+
+    enum Mode {
+        /** Postgres declarative range partitioning on the archive parent table. */
+        NATIVE,
+        /** One table per year, created from the archive template table. */
+        EMULATED
+    }
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final ChangeJournal changeJournal;
+    private final Set<Integer> knownYears = ConcurrentHashMap.newKeySet();
+    private volatile Mode mode;
+
+    public AnnouncementArchive(JdbcTemplate jdbc, NamedParameterJdbcTemplate named, ChangeJournal changeJournal) {
+        this.jdbc = jdbc;
+        this.named = named;
+        this.changeJournal = changeJournal;
+    }
+
+    Mode mode() {
+        if (mode == null) {
+            String product = jdbc.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            mode = "PostgreSQL".equalsIgnoreCase(product) ? Mode.NATIVE : Mode.EMULATED;
+        }
+        return mode;
+    }
+
+    static String partitionName(int year) {
+        return ARCHIVE_TABLE + "_" + year;
+    }
+
+    /**
+     * Creates the partition (or emulated table) for {@code year} if it does not exist yet.
+     * Runs outside the move transaction: MySQL DDL commits implicitly.
+     */
+    void ensurePartition(int year) {
+        if (knownYears.contains(year)) {
+            return;
+        }
+        String table = partitionName(year);
+        if (mode() == Mode.NATIVE) {
+            jdbc.execute("CREATE TABLE IF NOT EXISTS " + table + " PARTITION OF " + ARCHIVE_TABLE
+                    + " FOR VALUES FROM ('" + LocalDate.of(year, 1, 1) + "') TO ('" + LocalDate.of(year + 1, 1, 1) + "')");
+        } else {
+            jdbc.execute("CREATE TABLE IF NOT EXISTS " + table + " LIKE " + ARCHIVE_TABLE);
+        }
+        Integer registered = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM announcement_archive_partitions WHERE archive_year = ?", Integer.class, year);
+        if (registered == null || registered == 0) {
+            jdbc.update("INSERT INTO announcement_archive_partitions (archive_year, table_name) VALUES (?, ?)", year, table);
+        }
+        knownYears.add(year);
+    }
+
+    /**
+     * Moves up to {@code limit} of the oldest hot rows dated before {@code cutoff} into the archive.
+     * Must run inside a transaction, and the partitions for the affected years must already exist.
+     * The moved rows leave the hot table, which is all {@code /api/sync} serves, so each gets a
+     * DELETED journal entry in the same transaction and synced clients drop it.
+     *
+     * @return number of rows moved; 0 when nothing older than the cutoff is left
+     */
+    int moveChunk(LocalDate cutoff, int limit) {
+        List<Map<String, Object>> rows = jdbc.queryForList("SELECT id, date, tenant_id FROM " + HOT_TABLE
+                + " WHERE date < ? ORDER BY date, id LIMIT ? FOR UPDATE", Date.valueOf(cutoff), limit);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<Long>> idsByTable = new TreeMap<>();
+        Map<Long, Long> tenantById = new LinkedHashMap<>();
+        for (Map<String, Object> row : rows) {
+            LocalDate date = ((Date) row.get("date")).toLocalDate();
+            String table = mode() == Mode.NATIVE ? ARCHIVE_TABLE : partitionName(date.getYear());
+            long id = ((Number) row.get("id")).longValue();
+            idsByTable.computeIfAbsent(table, t -> new ArrayList<>()).add(id);
+            tenantById.put(id, ((Number) row.get("tenant_id")).longValue());
+        }
+        for (Map.Entry<String, List<Long>> entry : idsByTable.entrySet()) {
+            MapSqlParameterSource ids = new MapSqlParameterSource("ids", entry.getValue());
+            named.update("INSERT INTO " + entry.getKey() + " (" + COLUMNS + ") SELECT " + COLUMNS
+                    + " FROM " + HOT_TABLE + " WHERE id IN (:ids)", ids);
+            named.update("DELETE FROM " + HOT_TABLE + " WHERE id IN (:ids)", ids);
+        }
+        changeJournal.recordAll(Announcement.class, tenantById, EntityChangeEvent.ChangeType.DELETED);
+        return rows.size();
+    }
+
+    LocalDate oldestHotDate(LocalDate cutoff) {
+        return jdbc.queryForObject("SELECT MIN(date) FROM " + HOT_TABLE + " WHERE date < ?",
+                (rs, rowNum) -> rs.getObject(1, LocalDate.class), Date.valueOf(cutoff));
+    }
+
+    /**
+     * Archived announcements of the current tenant dated within [from, to], newest first. Only the
+     * partitions for the years in range are read. This is plain JDBC, so the tenant predicate Hibernate
+     * adds to entity queries is added here by hand.
+     */
+    public List<Announcement> find(LocalDate from, LocalDate to, String author, int limit) {
+        Long tenantId = TenantContext.current();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenant", tenantId)
+                .addValue("from", Date.valueOf(from))
+                .addValue("to", Date.valueOf(to))
+                .addValue("author", author)
+                .addValue("limit", limit);
+        String where = " WHERE " + (tenantId == null ? "" : "tenant_id = :tenant AND ")
+                + "date BETWEEN :from AND :to" + (author == null ? "" : " AND author = :author");
+
+        String source;
+        if (mode() == Mode.NATIVE) {
+            // the planner prunes partitions outside [from, to]
+            source = ARCHIVE_TABLE;
+        } else {
+            List<String> tables = jdbc.queryForList("SELECT table_name FROM announcement_archive_partitions "
+                    + "WHERE archive_year BETWEEN ? AND ? ORDER BY archive_year", String.class, from.getYear(), to.getYear());
+            if (tables.isEmpty()) {
+                return List.of();
+            }
+            List<String> selects = new ArrayList<>(tables.size());
+            for (String table : tables) {
+                selects.add("SELECT " + COLUMNS + " FROM " + table + where);
+            }
+            source = "(" + String.join(" UNION ALL ", selects) + ") archived";
+            where = "";
+        }
+        return named.query("SELECT " + COLUMNS + " FROM " + source + where
+                + " ORDER BY date DESC, id DESC LIMIT :limit", params, ROW_MAPPER);
+    }
+}
@@ -0,0 +1,72 @@
+package com.nxtclass.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Nightly retention job: moves announcements older than {@code app.archive.announcements.retention-days}
+ * from the hot table into the archive, one short transaction per chunk so the hot table is never
+ * locked for long. Keeps {@code announcements} (and the recent feed) bounded as history grows.
+ */
+@Component
+@ConditionalOnProperty(name = "app.archive.announcements.enabled", havingValue = "true")
+public class AnnouncementArchiver {
+    private static final Logger log = LoggerFactory.getLogger(AnnouncementArchiver.class);
+
+    private final AnnouncementArchive archive;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archived;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public AnnouncementArchiver(AnnouncementArchive archive,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry registry,
+                                @Value("${app.archive.announcements.retention-days:180}") int retentionDays,
+                                @Value("${app.archive.announcements.chunk-size:1000}") int chunkSize) {
+        // the recent feed reads the last 30 days from the hot table only
+        if (retentionDays <= 30) {
+            throw new IllegalStateException("app.archive.announcements.retention-days must be greater than 30");
+        }
+        this.archive = archive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archived = Counter.builder("announcements.archived")
+                .description("Announcements moved from the hot table into the archive")
+                .register(registry);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${app.archive.announcements.cron:0 30 2 * * *}")
+    public void archive() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        LocalDate oldest = archive.oldestHotDate(cutoff);
+        if (oldest == null) {
+            return;
+        }
+        for (int year = oldest.getYear(); year <= cutoff.getYear(); year++) {
+            archive.ensurePartition(year);
+        }
+
+        long started = System.nanoTime();
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archive.moveChunk(cutoff, chunkSize));
+            total += moved;
+            archived.increment(moved);
+        } while (moved == chunkSize);
+        log.info("Archived {} announcements dated before {} in {} ms", total, cutoff,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,106 @@
+package com.nxtclass.cache;
+
+import com.nxtclass.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Single-flight execution for identical concurrent reads. The first caller for a key runs the
+ * computation; callers arriving while it is in flight wait for and share its result.
+ * Keys are always scoped by the caller's tenant and granted authorities so different organizations
+ * and roles never share results.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param name     low-cardinality operation name, used as the metrics tag
+     * @param key      parameters that identify the request within the operation
+     * @param supplier the computation to share
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, String key, Supplier<T> supplier) {
+        String fullKey = name + '|' + key + '|' + TenantContext.current() + '|' + authorizationScope();
+        InFlight candidate = new InFlight();
+        InFlight existing = inFlight.putIfAbsent(fullKey, candidate);
+
+        if (existing != null) {
+            existing.waiters.incrementAndGet();
+            calls(name, "follower").increment();
+            try {
+                return (T) existing.result.join();
+            } catch (CompletionException ex) {
+                throw unwrap(ex);
+            }
+        }
+
+        calls(name, "leader").increment();
+        try {
+            T value = supplier.get();
+            candidate.result.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            // Errors too: followers must never wait on a result that is never completed
+            candidate.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(fullKey, candidate);
+            DistributionSummary.builder("coalescer.waiters")
+                    .description("Callers that shared a single in-flight computation")
+                    .tag("operation", name)
+                    .register(meterRegistry)
+                    .record(candidate.waiters.get());
+        }
+    }
+
+    private Counter calls(String name, String role) {
+        return Counter.builder("coalescer.calls")
+                .description("Coalesced calls; the follower share is the coalescing ratio")
+                .tags("operation", name, "role", role)
+                .register(meterRegistry);
+    }
+
+    private static String authorizationScope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return "anonymous";
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static RuntimeException unwrap(CompletionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException runtime ? runtime : ex;
+    }
+
+    private static final class InFlight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+}
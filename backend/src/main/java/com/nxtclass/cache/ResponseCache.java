@@ -0,0 +1,78 @@
+package com.nxtclass.cache;
+
+import com.nxtclass.event.EntityChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds fully encoded response bodies keyed by tenant, endpoint, parameters and day.
+ * Every entry is tied to the entity type it was built from; a committed write to that
+ * type drops its entries and bumps a generation counter so in-flight responses computed
+ * from the old data are not stored. Beyond {@code max-entries} the least recently used entry
+ * is evicted, so entries from previous days age out and new keys are always admitted.
+ */
+@Component
+public class ResponseCache {
+
+    /** Access-ordered; every access goes through {@code synchronized (entries)}. */
+    private final LinkedHashMap<Key, Entry> entries;
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ResponseCache(@Value("${app.response-cache.max-entries:512}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Entry get(Key key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    public long generation(Class<?> entityType) {
+        return generations.computeIfAbsent(entityType, t -> new AtomicLong()).get();
+    }
+
+    /**
+     * Stores the entry unless the entity type changed since {@code generation} was read.
+     */
+    public void put(Key key, long generation, Entry entry) {
+        synchronized (entries) {
+            // invalidate bumps the generation before it takes the lock, so either this check sees
+            // the bump or the entry is in place when invalidate removes the type's entries
+            if (generation(key.entityType()) == generation) {
+                entries.put(key, entry);
+            }
+        }
+    }
+
+    public void invalidate(Class<?> entityType) {
+        generations.computeIfAbsent(entityType, t -> new AtomicLong()).incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(k -> k.entityType().equals(entityType));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        invalidate(event.entityType());
+    }
+
+    public record Key(Class<?> entityType, Long tenantId, String endpoint, String parameters, LocalDate day) {
+    }
+
+    public record Entry(byte[] body, String contentType) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.nxtclass.cache;
+
+import com.nxtclass.entity.Announcement;
+import com.nxtclass.entity.Assignment;
+import com.nxtclass.entity.Subject;
+import com.nxtclass.tenant.TenantContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Serves hot, user-independent read endpoints straight from {@link ResponseCache}.
+ * Runs after the security filter chain, so authentication is still enforced on hits and the
+ * tenant bound by the token is part of the key.
+ */
+@Component
+@ConditionalOnProperty(name = "app.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_HEADER = "X-Response-Cache";
+
+    /**
+     * Only the parameters an endpoint reads are part of its key, so arbitrary query strings
+     * (cache busters, tracking tags) can neither miss the cache nor fill it with copies.
+     */
+    private static final Map<String, CachedEndpoint> CACHED_ENDPOINTS = Map.of(
+            "/api/announcements/recent", new CachedEndpoint(Announcement.class, Set.of()),
+            "/api/assignments/upcoming", new CachedEndpoint(Assignment.class, Set.of()),
+            "/api/subject-details/list", new CachedEndpoint(Subject.class, Set.of())
+    );
+
+    private record CachedEndpoint(Class<?> entityType, Set<String> parameters) {
+    }
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheFilter(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !CACHED_ENDPOINTS.containsKey(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = request.getServletPath();
+        CachedEndpoint cachedEndpoint = CACHED_ENDPOINTS.get(endpoint);
+        Class<?> entityType = cachedEndpoint.entityType();
+        ResponseCache.Key key = new ResponseCache.Key(entityType, TenantContext.current(), endpoint,
+                canonicalParameters(request, cachedEndpoint.parameters()), LocalDate.now());
+
+        ResponseCache.Entry cached = responseCache.get(key);
+        if (cached != null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.setHeader(CACHE_HEADER, "HIT");
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        long generation = responseCache.generation(entityType);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_HEADER, "MISS");
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+                responseCache.put(key, generation,
+                        new ResponseCache.Entry(wrapper.getContentAsByteArray(), wrapper.getContentType()));
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String canonicalParameters(HttpServletRequest request, Set<String> used) {
+        StringBuilder sb = new StringBuilder();
+        for (String name : new TreeSet<>(used)) {
+            String[] values = request.getParameterValues(name);
+            if (values != null) {
+                sb.append(name).append('=').append(String.join(",", values)).append('&');
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package com.nxtclass.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async}. Work runs on Spring Boot's applicationTaskExecutor, which is backed by
+ * virtual threads when {@code spring.threads.virtual.enabled=true} on Java 21.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -1,31 +1,48 @@
 package com.nxtclass.config;
 
+import com.nxtclass.entity.Organization;
 import com.nxtclass.entity.User;
 import com.nxtclass.entity.UserRole;
 import com.nxtclass.entity.UserStatus;
+import com.nxtclass.repository.OrganizationRepository;
 import com.nxtclass.repository.UserRepository;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+/**
+ * Creates the sample accounts once the application is ready, on the async executor, so their
+ * bcrypt hashing is not part of startup. Logins for them fail for the first moment after a fresh start.
+ * They belong to the default organization; this runs as root, so their tenant is set explicitly.
+ */
 @Component
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
+    private static final String DEFAULT_ORGANIZATION = "NXT Class";
+
     private final UserRepository userRepository;
+    private final OrganizationRepository organizationRepository;
     private final PasswordEncoder passwordEncoder;
 
-    public DataInitializer(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public DataInitializer(UserRepository userRepository, OrganizationRepository organizationRepository,
+                           PasswordEncoder passwordEncoder) {
         this.userRepository = userRepository;
+        this.organizationRepository = organizationRepository;
         this.passwordEncoder = passwordEncoder;
     }
 
-    @Override
-    public void run(String... args) {
-        seedUser("admin@nxtclass.com", "Platform Admin", UserRole.ORGADMIN, "Admin@123");
-        seedUser("teacher@nxtclass.com", "Lead Teacher", UserRole.TEACHER, "Admin@123");
-        seedUser("student@nxtclass.com", "Student One", UserRole.STUDENT, "Admin@123");
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedDefaultUsers() {
+        Organization organization = organizationRepository.findByName(DEFAULT_ORGANIZATION)
+                .orElseGet(() -> organizationRepository.save(new Organization(DEFAULT_ORGANIZATION)));
+        seedUser(organization, "admin@nxtclass.com", "Platform Admin", UserRole.ORGADMIN, "Admin@123");
+        seedUser(organization, "teacher@nxtclass.com", "Lead Teacher", UserRole.TEACHER, "Admin@123");
+        seedUser(organization, "student@nxtclass.com", "Student One", UserRole.STUDENT, "Admin@123");
     }
 
-    private void seedUser(String email, String name, UserRole role, String rawPassword) {
+    private void seedUser(Organization organization, String email, String name, UserRole role, String rawPassword) {
         userRepository.findByEmail(email).orElseGet(() -> {
             User user = new User();
             user.setName(name);
@@ -33,7 +50,8 @@ public class DataInitializer implements CommandLineRunner {
             user.setPassword(passwordEncoder.encode(rawPassword));
             user.setRole(role);
             user.setStatus(UserStatus.ACTIVE);
-            user.setOrganization("NXT Class");
+            user.setOrganization(organization.getName());
+            user.setTenantId(organization.getIdentifier());
             return userRepository.save(user);
         });
     }
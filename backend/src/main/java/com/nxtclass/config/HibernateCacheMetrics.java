@@ -0,0 +1,66 @@
+package com.nxtclass.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes second-level and query cache hit/miss counters and hit ratio per cache region.
+ * Only active when Hibernate statistics are enabled (see application-l2cache.properties).
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = statistics.getDomainDataRegionStatistics(region);
+            if (regionStats != null) {
+                bindRegion(registry, region, regionStats);
+            }
+        }
+        bindRegion(registry, "query-results", statistics.getQueryRegionStatistics("default-query-results-region"));
+
+        Gauge.builder("hibernate.cache.query.hit.ratio", statistics,
+                        s -> ratio(s.getQueryCacheHitCount(), s.getQueryCacheMissCount()))
+                .description("Query cache hit ratio across all cacheable queries")
+                .register(registry);
+    }
+
+    private void bindRegion(MeterRegistry registry, String region, CacheRegionStatistics regionStats) {
+        if (regionStats == null) {
+            return;
+        }
+        FunctionCounter.builder("hibernate.cache.requests", regionStats, CacheRegionStatistics::getHitCount)
+                .tags("region", region, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.requests", regionStats, CacheRegionStatistics::getMissCount)
+                .tags("region", region, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.puts", regionStats, CacheRegionStatistics::getPutCount)
+                .tags("region", region)
+                .register(registry);
+        Gauge.builder("hibernate.cache.hit.ratio", regionStats, s -> ratio(s.getHitCount(), s.getMissCount()))
+                .tags("region", region)
+                .register(registry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,68 @@
+package com.nxtclass.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Hibernate session statistics: sessions, transactions, JDBC statements, flushes,
+ * entity and collection operations and query executions. Only active when Hibernate statistics
+ * are enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate.sessions", "Sessions opened or closed", Statistics::getSessionOpenCount, "state", "open");
+        counter(registry, "hibernate.sessions", "Sessions opened or closed", Statistics::getSessionCloseCount, "state", "closed");
+        counter(registry, "hibernate.transactions", "Completed transactions", Statistics::getSuccessfulTransactionCount, "result", "success");
+        counter(registry, "hibernate.transactions", "Completed transactions",
+                s -> s.getTransactionCount() - s.getSuccessfulTransactionCount(), "result", "failure");
+        counter(registry, "hibernate.statements", "JDBC statements prepared or closed", Statistics::getPrepareStatementCount, "status", "prepared");
+        counter(registry, "hibernate.statements", "JDBC statements prepared or closed", Statistics::getCloseStatementCount, "status", "closed");
+        counter(registry, "hibernate.flushes", "Session flushes", Statistics::getFlushCount);
+        counter(registry, "hibernate.connections.obtained", "JDBC connections obtained by sessions", Statistics::getConnectCount);
+        counter(registry, "hibernate.optimistic.failures", "StaleObjectStateExceptions", Statistics::getOptimisticFailureCount);
+
+        counter(registry, "hibernate.entities", "Entity operations", Statistics::getEntityLoadCount, "operation", "load");
+        counter(registry, "hibernate.entities", "Entity operations", Statistics::getEntityFetchCount, "operation", "fetch");
+        counter(registry, "hibernate.entities", "Entity operations", Statistics::getEntityInsertCount, "operation", "insert");
+        counter(registry, "hibernate.entities", "Entity operations", Statistics::getEntityUpdateCount, "operation", "update");
+        counter(registry, "hibernate.entities", "Entity operations", Statistics::getEntityDeleteCount, "operation", "delete");
+        counter(registry, "hibernate.collections", "Collection operations", Statistics::getCollectionLoadCount, "operation", "load");
+        counter(registry, "hibernate.collections", "Collection operations", Statistics::getCollectionFetchCount, "operation", "fetch");
+        counter(registry, "hibernate.collections", "Collection operations", Statistics::getCollectionRecreateCount, "operation", "recreate");
+        counter(registry, "hibernate.collections", "Collection operations", Statistics::getCollectionUpdateCount, "operation", "update");
+        counter(registry, "hibernate.collections", "Collection operations", Statistics::getCollectionRemoveCount, "operation", "remove");
+
+        counter(registry, "hibernate.query.executions", "Executed HQL/JPQL and native queries", Statistics::getQueryExecutionCount);
+        Gauge.builder("hibernate.query.executions.max", statistics, Statistics::getQueryExecutionMaxTime)
+                .description("Slowest query execution time since startup")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description,
+                         ToDoubleFunction<Statistics> value, String... tags) {
+        FunctionCounter.builder(name, statistics, value)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
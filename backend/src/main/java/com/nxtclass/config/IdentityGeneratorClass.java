@@ -1,15 +1,50 @@
 package com.nxtclass.config;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.MappingException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Properties;
 
-public class IdentityGeneratorClass implements IdentifierGenerator {
-    private static final AtomicLong counter = new AtomicLong(System.currentTimeMillis());
+/**
+ * Identifiers for every {@code custom-id} entity, reserved in blocks of {@value #BLOCK_SIZE} from the
+ * {@code identifier_blocks} row (pooled-lo: the stored value is the next block's first id). A block is
+ * claimed in its own transaction, so ids are never handed out twice across restarts or instances.
+ * All entities share one segment, keeping ids unique across tables.
+ */
+public class IdentityGeneratorClass extends TableGenerator {
+
+    static final String TABLE = "identifier_blocks";
+    static final String SEGMENT = "identifier";
+    private static final int BLOCK_SIZE = 1000;
 
     @Override
-    public Object generate(SharedSessionContractImplementor sharedSessionContractImplementor, Object o) {
-        return counter.getAndIncrement();
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.setProperty(TABLE_PARAM, TABLE);
+        parameters.setProperty(SEGMENT_COLUMN_PARAM, "name");
+        parameters.setProperty(VALUE_COLUMN_PARAM, "next_value");
+        parameters.setProperty(SEGMENT_VALUE_PARAM, SEGMENT);
+        parameters.setProperty(INCREMENT_PARAM, Integer.toString(BLOCK_SIZE));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        // No initial value: migration V8 creates the row above the largest existing id, and
+        // TableGenerator only takes an int here anyway
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    /**
+     * Draws from {@code entityType}'s generator, for rows inserted directly over JDBC (bulk fan-out).
+     * Must be called inside the transaction that inserts the rows.
+     */
+    public static Long nextIdentifier(EntityManager entityManager, Class<?> entityType) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(entityType).getGenerator();
+        return (Long) generator.generate(session, null, null, EventType.INSERT);
     }
 }
@@ -0,0 +1,33 @@
+package com.nxtclass.config;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps meter cardinality bounded. Request and repository timers are tagged with templated
+ * paths and method names, never raw identifiers, but a cap per tag still guards against a
+ * misbehaving client or a future tag mistake filling the registry.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final int MAX_URIS = 200;
+    static final int MAX_REPOSITORY_METHODS = 300;
+
+    @Bean
+    public MeterFilter httpUriCardinalityLimit() {
+        return MeterFilter.maximumAllowableTags("http.server.requests", "uri", MAX_URIS, MeterFilter.deny());
+    }
+
+    @Bean
+    public MeterFilter repositoryMethodCardinalityLimit() {
+        return MeterFilter.maximumAllowableTags("spring.data.repository.invocations", "method",
+                MAX_REPOSITORY_METHODS, MeterFilter.deny());
+    }
+
+    @Bean
+    public MeterFilter coalescerOperationCardinalityLimit() {
+        return MeterFilter.maximumAllowableTags("coalescer.calls", "operation", 50, MeterFilter.deny());
+    }
+}
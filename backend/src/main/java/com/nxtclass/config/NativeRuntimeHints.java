@@ -0,0 +1,90 @@
+package com.nxtclass.config;
+
+import com.nxtclass.diagnostics.JfrRecorder;
+import com.nxtclass.diagnostics.JfrSummary;
+import com.nxtclass.event.EntityChangeEvent;
+import com.nxtclass.logging.RequestSamplingTurboFilter;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image (mvn -Pnative native:compile), for what Spring AOT
+ * cannot see on its own: JSON payload types nested in maps and lists, Hibernate's string-named
+ * {@link IdentityGeneratorClass}, JJWT's reflective implementation lookup, logback classes named
+ * only in logback-spring.xml, and the Flyway scripts under vendor-specific locations.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+        List<Class<?>> payloads = new ArrayList<>(typesIn("com.nxtclass.dto", classLoader));
+        payloads.addAll(List.of(EntityChangeEvent.ChangeType.class, JfrSummary.class, JfrRecorder.RecordingInfo.class));
+        binding.registerReflectionHints(hints.reflection(), payloads.toArray(Class<?>[]::new));
+
+        // entities are also DashboardResponse/controller payloads, and Hibernate reads their fields
+        for (Class<?> entity : typesIn("com.nxtclass.entity", classLoader)) {
+            binding.registerReflectionHints(hints.reflection(), entity);
+            hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        hints.reflection().registerType(IdentityGeneratorClass.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        JJWT_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        hints.reflection().registerType(RequestSamplingTurboFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TypeReference.of("ch.qos.logback.classic.AsyncAppender"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TypeReference.of("ch.qos.logback.classic.encoder.JsonEncoder"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // DistrictSeeder's COPY path looks the Postgres driver up by name
+        hints.reflection().registerType(TypeReference.of("org.postgresql.copy.CopyManager"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TypeReference.of("org.postgresql.core.BaseConnection"));
+
+        hints.resources().registerPattern("db/migration/*/*.sql");
+        hints.resources().registerPattern("ehcache.xml");
+    }
+
+    /** Runs at build time (AOT), so scanning costs nothing at runtime. */
+    private static List<Class<?>> typesIn(String basePackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return types;
+    }
+}
@@ -0,0 +1,28 @@
+package com.nxtclass.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Map;
+
+/**
+ * Hibernate takes a single {@link StatementInspector}; components that each want one register
+ * through here and are chained in registration order.
+ */
+public final class StatementInspectors {
+
+    private StatementInspectors() {
+    }
+
+    public static void register(Map<String, Object> hibernateProperties, StatementInspector inspector) {
+        hibernateProperties.merge(AvailableSettings.STATEMENT_INSPECTOR, inspector,
+                (existing, added) -> chain((StatementInspector) existing, (StatementInspector) added));
+    }
+
+    private static StatementInspector chain(StatementInspector first, StatementInspector second) {
+        return sql -> {
+            String inspected = first.inspect(sql);
+            return second.inspect(inspected == null ? sql : inspected);
+        };
+    }
+}
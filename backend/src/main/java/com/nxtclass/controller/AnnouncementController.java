@@ -1,24 +1,36 @@
 package com.nxtclass.controller;
 
+import com.nxtclass.archive.AnnouncementArchive;
+import com.nxtclass.cache.RequestCoalescer;
 import com.nxtclass.entity.Announcement;
 import com.nxtclass.repository.AnnouncementRepository;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/announcements")
 public class AnnouncementController {
-    
+    private static final int MAX_ARCHIVE_ROWS = 1000;
+
     @Autowired
     private AnnouncementRepository announcementRepository;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private AnnouncementArchive announcementArchive;
+
     @GetMapping
     public ResponseEntity<List<Announcement>> getAllAnnouncements() {
         List<Announcement> announcements = announcementRepository.findAll();
@@ -34,33 +46,58 @@ public class AnnouncementController {
 
 
     @GetMapping("/author/{author}")
-    public ResponseEntity<List<Announcement>> getAnnouncementsByAuthor(@PathVariable String author) {
-        List<Announcement> announcements = announcementRepository.findByAuthor(author);
+    public ResponseEntity<List<Announcement>> getAnnouncementsByAuthor(@PathVariable String author,
+                                                                       @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<Announcement> announcements = new ArrayList<>(announcementRepository.findByAuthor(author));
+        if (includeArchived) {
+            announcements.addAll(announcementArchive.find(LocalDate.of(1970, 1, 1), LocalDate.now(), author, MAX_ARCHIVE_ROWS));
+        }
         return ResponseEntity.ok(announcements);
     }
 
+    // Announcements moved out of the hot table by AnnouncementArchiver
+    @GetMapping("/archive")
+    public ResponseEntity<List<Announcement>> getArchivedAnnouncements(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String author,
+            @RequestParam(defaultValue = "200") int limit) {
+        if (from.isAfter(to) || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(announcementArchive.find(from, to, author, Math.min(limit, MAX_ARCHIVE_ROWS)));
+    }
+
     @GetMapping("/recent")
     public ResponseEntity<List<Announcement>> getRecentAnnouncements() {
-        List<Announcement> announcements = announcementRepository.findRecentAnnouncements(LocalDate.now().minusDays(30));
+        LocalDate startDate = LocalDate.now().minusDays(30);
+        List<Announcement> announcements = requestCoalescer.execute("announcements.recent", startDate.toString(),
+                () -> announcementRepository.findRecentAnnouncements(startDate));
         return ResponseEntity.ok(announcements);
     }
 
+    @Transactional
     @PostMapping
     public ResponseEntity<Announcement> createAnnouncement(@Valid @RequestBody Announcement announcement) {
         Announcement savedAnnouncement = announcementRepository.save(announcement);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedAnnouncement);
     }
 
+    @Transactional
     @PutMapping("/{id}")
     public ResponseEntity<Announcement> updateAnnouncement(@PathVariable Long id, @Valid @RequestBody Announcement announcement) {
-        if (announcementRepository.existsById(id)) {
+        Optional<Announcement> existing = announcementRepository.findById(id);
+        if (existing.isPresent()) {
             announcement.setId(id);
+            // tenantId is not part of the body; the merge would otherwise null it
+            announcement.setTenantId(existing.get().getTenantId());
             Announcement updatedAnnouncement = announcementRepository.save(announcement);
             return ResponseEntity.ok(updatedAnnouncement);
         }
         return ResponseEntity.notFound().build();
     }
 
+    @Transactional
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAnnouncement(@PathVariable Long id) {
         if (announcementRepository.existsById(id)) {
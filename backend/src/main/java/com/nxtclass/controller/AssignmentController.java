@@ -1,12 +1,16 @@
 package com.nxtclass.controller;
 
+import com.nxtclass.cache.RequestCoalescer;
+import com.nxtclass.dto.SubmissionSummary;
 import com.nxtclass.entity.Assignment;
 import com.nxtclass.entity.AssignmentStatus;
 import com.nxtclass.repository.AssignmentRepository;
+import com.nxtclass.service.SubmissionAPI;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -20,6 +24,12 @@ public class AssignmentController {
     @Autowired
     private AssignmentRepository assignmentRepository;
 
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private SubmissionAPI submissionAPI;
+
     @GetMapping
     public ResponseEntity<List<Assignment>> getAllAssignments() {
         List<Assignment> assignments = assignmentRepository.findAll();
@@ -47,29 +57,56 @@ public class AssignmentController {
 
     @GetMapping("/upcoming")
     public ResponseEntity<List<Assignment>> getUpcomingAssignments() {
-        List<Assignment> assignments = assignmentRepository.findUpcomingAssignments(LocalDate.now());
+        LocalDate today = LocalDate.now();
+        List<Assignment> assignments = requestCoalescer.execute("assignments.upcoming", today.toString(),
+                () -> assignmentRepository.findUpcomingAssignments(today));
         return ResponseEntity.ok(assignments);
     }
 
+    @Transactional
     @PostMapping
     public ResponseEntity<Assignment> createAssignment(@Valid @RequestBody Assignment assignment) {
         Assignment savedAssignment = assignmentRepository.save(assignment);
+        submissionAPI.publish(savedAssignment);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedAssignment);
     }
 
+    @Transactional
+    @PostMapping("/{id}/publish")
+    public ResponseEntity<Integer> publishAssignment(@PathVariable Long id) {
+        return assignmentRepository.findById(id)
+                .map(assignment -> ResponseEntity.ok(submissionAPI.publish(assignment)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/submissions/summary")
+    public ResponseEntity<SubmissionSummary> getSubmissionSummary(@PathVariable Long id) {
+        return ResponseEntity.ok(submissionAPI.summary(id));
+    }
+
+    @Transactional
     @PutMapping("/{id}")
     public ResponseEntity<Assignment> updateAssignment(@PathVariable Long id, @Valid @RequestBody Assignment assignment) {
-        if (assignmentRepository.existsById(id)) {
+        Optional<Assignment> existing = assignmentRepository.findById(id);
+        if (existing.isPresent()) {
+            // read before save: the merge overwrites the managed instance
+            String previousSubject = existing.get().getSubject();
+            Integer previousTotalPoints = existing.get().getTotalPoints();
             assignment.setId(id);
+            assignment.setTenantId(existing.get().getTenantId());
             Assignment updatedAssignment = assignmentRepository.save(assignment);
+            submissionAPI.publish(updatedAssignment);
+            submissionAPI.regrade(updatedAssignment, previousSubject, previousTotalPoints);
             return ResponseEntity.ok(updatedAssignment);
         }
         return ResponseEntity.notFound().build();
     }
 
+    @Transactional
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAssignment(@PathVariable Long id) {
         if (assignmentRepository.existsById(id)) {
+            submissionAPI.deleteForAssignment(id);
             assignmentRepository.deleteById(id);
             return ResponseEntity.noContent().build();
         }
@@ -57,7 +57,8 @@ public class AuthController {
                         .body("User account is not active");
             }
 
-            String token = jwtService.generateToken((org.springframework.security.core.userdetails.UserDetails) authentication.getPrincipal());
+            String token = jwtService.generateToken((org.springframework.security.core.userdetails.UserDetails) authentication.getPrincipal(),
+                    user.getTenantId());
 
         UserSummary userSummary = new UserSummary(
             user.getIdentifier(),
@@ -0,0 +1,30 @@
+package com.nxtclass.controller;
+
+import com.nxtclass.dto.DashboardResponse;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.service.DashboardAPI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+    private final DashboardAPI dashboardAPI;
+
+    @GetMapping
+    public ResponseEntity<DashboardResponse> dashboard(Authentication authentication) {
+        UserRole role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .map(authority -> UserRole.valueOf(authority.substring("ROLE_".length())))
+                .findFirst()
+                .orElse(UserRole.STUDENT);
+        return ResponseEntity.ok(dashboardAPI.dashboard(role, authentication.getName()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.nxtclass.controller;
+
+import com.nxtclass.dto.GradebookResponse;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.service.GradebookAPI;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/gradebook")
+public class GradebookController {
+    private final GradebookAPI gradebookAPI;
+
+    @GetMapping("mine")
+    public ResponseEntity<GradebookResponse> mine(Authentication authentication) {
+        return gradebookAPI.forStudentEmail(authentication.getName())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("teaching")
+    public ResponseEntity<List<GradebookResponse>> teaching(Authentication authentication) {
+        return ResponseEntity.ok(gradebookAPI.forTeacher(authentication.getName()));
+    }
+
+    // teachers and admins only (SecurityConfig); a teacher not linked to the class gets 403
+    @GetMapping("/students/{identifier}")
+    public ResponseEntity<GradebookResponse> student(Authentication authentication, @PathVariable Long identifier) {
+        try {
+            return ResponseEntity.ok(gradebookAPI.forStudent(identifier, authentication.getName(), role(authentication)));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/sections/{identifier}")
+    public ResponseEntity<GradebookResponse> section(Authentication authentication, @PathVariable Long identifier) {
+        return ResponseEntity.ok(gradebookAPI.forSection(identifier, authentication.getName(), role(authentication)));
+    }
+
+    @GetMapping("/grades/{identifier}")
+    public ResponseEntity<GradebookResponse> grade(Authentication authentication, @PathVariable Long identifier) {
+        return ResponseEntity.ok(gradebookAPI.forGrade(identifier, authentication.getName(), role(authentication)));
+    }
+
+    @GetMapping("/organization")
+    public ResponseEntity<GradebookResponse> organization() {
+        return ResponseEntity.ok(gradebookAPI.forOrganization());
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        gradebookAPI.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    private static UserRole role(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .map(authority -> UserRole.valueOf(authority.substring("ROLE_".length())))
+                .findFirst()
+                .orElse(UserRole.TEACHER);
+    }
+}
@@ -0,0 +1,26 @@
+package com.nxtclass.controller;
+
+import com.nxtclass.push.ChangeStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stream")
+public class StreamController {
+    private final ChangeStream changeStream;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        changeStream.subscribe(lastEventId, request, response);
+    }
+}
@@ -0,0 +1,57 @@
+package com.nxtclass.controller;
+
+import com.nxtclass.dto.SubmissionDTO;
+import com.nxtclass.entity.AssignmentStatus;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.service.SubmissionAPI;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/submissions")
+public class SubmissionController {
+    private final SubmissionAPI submissionAPI;
+
+    @GetMapping("mine")
+    public ResponseEntity<List<SubmissionDTO>> mine(Authentication authentication,
+                                                    @RequestParam(defaultValue = "PENDING") AssignmentStatus status) {
+        return ResponseEntity.ok(submissionAPI.forStudent(authentication.getName(), status));
+    }
+
+    @PutMapping("/{identifier}/submit")
+    public ResponseEntity<String> submit(Authentication authentication, @PathVariable Long identifier) {
+        try {
+            submissionAPI.submit(identifier, authentication.getName());
+            return ResponseEntity.ok("success");
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // teachers and admins only (SecurityConfig); a teacher not linked to the student gets 403
+    @PutMapping("/{identifier}/grade")
+    public ResponseEntity<String> grade(Authentication authentication, @PathVariable Long identifier,
+                                        @RequestParam Integer score) {
+        UserRole role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .map(authority -> UserRole.valueOf(authority.substring("ROLE_".length())))
+                .findFirst()
+                .orElse(UserRole.TEACHER);
+        try {
+            submissionAPI.grade(identifier, score, authentication.getName(), role);
+            return ResponseEntity.ok("success");
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
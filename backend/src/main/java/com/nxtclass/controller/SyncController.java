@@ -0,0 +1,39 @@
+package com.nxtclass.controller;
+
+import com.nxtclass.dto.SyncResponse;
+import com.nxtclass.service.SyncAPI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/sync")
+public class SyncController {
+    private final SyncAPI syncAPI;
+
+    /**
+     * Changes since {@code since} (0 for a fresh client). 410 Gone means the cursor has expired
+     * and the client has to reload its lists and start over from 0.
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(@RequestParam(defaultValue = "0") long since,
+                                             @RequestParam(defaultValue = "500") int limit) {
+        if (since < 0 || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!syncAPI.isCursorValid(since)) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+        return ResponseEntity.ok(syncAPI.changesSince(since, Math.min(limit, SyncAPI.MAX_PAGE_SIZE)));
+    }
+
+    @GetMapping("cursor")
+    public ResponseEntity<Long> cursor() {
+        return ResponseEntity.ok(syncAPI.latestCursor());
+    }
+}
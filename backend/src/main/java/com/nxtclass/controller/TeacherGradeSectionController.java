@@ -5,6 +5,7 @@ import com.nxtclass.dto.TeacherDetailsDTO;
 import com.nxtclass.service.TeacherDetailsAPI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -25,6 +26,7 @@ public class TeacherGradeSectionController {
         return ResponseEntity.ok(dto.getTeacherGradeLinking());
     }
 
+    @Transactional
     @PostMapping("/{teacherId}/assignments")
     public ResponseEntity<String> saveAssignments(@PathVariable Long teacherId,
                                                   @RequestBody List<TeacherGradeSectionDTO> dtos) {
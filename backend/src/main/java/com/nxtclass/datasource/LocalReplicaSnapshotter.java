@@ -0,0 +1,105 @@
+package com.nxtclass.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Stand-in for replication when running with two embedded H2 databases (profile replica-local).
+ * Copies the primary into the replica at a fixed interval, so replica reads lag behind writes
+ * the way a real asynchronous replica does and routing, lag fallback and read-your-writes can
+ * be exercised locally. The copy drops and reloads the replica, so the replica is taken out of
+ * rotation and its borrowed connections are drained first; reads go to the primary meanwhile.
+ */
+@Component
+@Profile("replica-local")
+public class LocalReplicaSnapshotter {
+    private static final Logger log = LoggerFactory.getLogger(LocalReplicaSnapshotter.class);
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final JdbcTemplate primary;
+    private final ReplicaRoutingProperties properties;
+    private final List<ReplicaHealth> replicas;
+
+    public LocalReplicaSnapshotter(HikariDataSource primaryDataSource, ReplicaRoutingProperties properties,
+                                   List<ReplicaHealth> replicaHealth) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.properties = properties;
+        this.replicas = replicaHealth;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.local-snapshot-interval:3s}")
+    public void snapshot() throws IOException {
+        Path script = Files.createTempFile("nxtclass-replica", ".sql");
+        try {
+            primary.execute("SCRIPT TO '" + script.toAbsolutePath() + "'");
+            // replicaHealth is built from the same list, in the same order
+            for (int i = 0; i < replicas.size(); i++) {
+                restore(replicas.get(i), properties.getReplicas().get(i), script);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Local replica snapshot failed: {}", ex.getMessage());
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    private void restore(ReplicaHealth replica, ReplicaRoutingProperties.Replica config, Path script) {
+        replica.suspend();
+        try {
+            if (!drain(replica)) {
+                log.warn("Replica {} still has reads in flight after {}; skipping this snapshot",
+                        replica.getName(), DRAIN_TIMEOUT);
+                return;
+            }
+            SingleConnectionDataSource target = new SingleConnectionDataSource(
+                    config.getUrl(), config.getUsername(), config.getPassword(), true);
+            try {
+                JdbcTemplate jdbc = new JdbcTemplate(target);
+                jdbc.execute("DROP ALL OBJECTS");
+                jdbc.execute("RUNSCRIPT FROM '" + script.toAbsolutePath() + "'");
+            } finally {
+                target.destroy();
+            }
+        } finally {
+            replica.resume();
+        }
+    }
+
+    /**
+     * Waits until no connection of the replica's pool is borrowed. Reads that picked the replica
+     * before it was suspended finish on the old contents; new ones already go to the primary.
+     */
+    private boolean drain(ReplicaHealth replica) {
+        if (!(replica.getDataSource() instanceof HikariDataSource pool)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        HikariPoolMXBean mxBean;
+        while ((mxBean = pool.getHikariPoolMXBean()) != null && mxBean.getActiveConnections() > 0) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
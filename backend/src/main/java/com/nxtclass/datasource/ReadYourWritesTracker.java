@@ -0,0 +1,40 @@
+package com.nxtclass.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write recently so their follow-up reads are served
+ * by the primary and never see a replica that has not caught up yet.
+ */
+public class ReadYourWritesTracker {
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String user) {
+        long now = System.nanoTime();
+        stickyUntil.put(user, now + windowNanos);
+        if (stickyUntil.size() > PURGE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until - now < 0);
+        }
+    }
+
+    public boolean isSticky(String user) {
+        Long until = stickyUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() < 0) {
+            stickyUntil.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+package com.nxtclass.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Last observed state of one replica, updated by {@link ReplicaHealthChecker}.
+ */
+@Getter
+public class ReplicaHealth {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean reachable;
+    private volatile Duration lag = Duration.ZERO;
+    private volatile Duration maxLag;
+    private volatile boolean suspended;
+
+    public ReplicaHealth(String name, DataSource dataSource, Duration maxLag) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isAvailable() {
+        return !suspended && reachable && lag.compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * Takes the replica out of rotation whatever its health, e.g. while its contents are replaced.
+     */
+    void suspend() {
+        this.suspended = true;
+    }
+
+    void resume() {
+        this.suspended = false;
+    }
+
+    void update(boolean reachable, Duration lag) {
+        this.reachable = reachable;
+        this.lag = lag;
+    }
+}
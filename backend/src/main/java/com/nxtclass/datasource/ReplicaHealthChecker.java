@@ -0,0 +1,79 @@
+package com.nxtclass.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Measures replication lag with a heartbeat row: the primary stores the current time every
+ * check, and each replica's lag is how old the heartbeat it has replicated is. This works the
+ * same way on MySQL, Postgres and the embedded databases used for local testing. The heartbeat
+ * table comes from the migrations; until it exists every replica counts as unreachable and reads
+ * stay on the primary.
+ */
+public class ReplicaHealthChecker implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthChecker.class);
+
+    static final String HEARTBEAT_TABLE = "replication_heartbeat";
+
+    private final JdbcTemplate primary;
+    private final List<ReplicaHealth> replicas;
+
+    public ReplicaHealthChecker(DataSource primary, List<ReplicaHealth> replicas) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:1s}")
+    public void check() {
+        writeHeartbeat();
+        long now = System.currentTimeMillis();
+        for (ReplicaHealth replica : replicas) {
+            if (replica.isSuspended()) {
+                // being rebuilt; measured again by the first check after it resumes
+                continue;
+            }
+            boolean wasAvailable = replica.isAvailable();
+            try {
+                Long beat = new JdbcTemplate(replica.getDataSource()).queryForObject(
+                        "SELECT MAX(beat_millis) FROM " + HEARTBEAT_TABLE, Long.class);
+                Duration lag = beat == null ? Duration.ofMillis(Long.MAX_VALUE) : Duration.ofMillis(Math.max(0, now - beat));
+                replica.update(true, lag);
+            } catch (RuntimeException ex) {
+                replica.update(false, replica.getLag());
+                log.debug("Replica {} health check failed: {}", replica.getName(), ex.getMessage());
+            }
+            if (wasAvailable != replica.isAvailable()) {
+                log.warn("Replica {} is now {} (lag {} ms)", replica.getName(),
+                        replica.isAvailable() ? "in rotation" : "out of rotation; reads fall back to primary",
+                        replica.getLag().toMillis());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (ReplicaHealth replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void writeHeartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update("UPDATE " + HEARTBEAT_TABLE + " SET beat_millis = ? WHERE id = 1", now) == 0) {
+                primary.update("INSERT INTO " + HEARTBEAT_TABLE + " (id, beat_millis) VALUES (1, ?)", now);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not write replication heartbeat: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.nxtclass.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the single auto-configured DataSource with a primary/replica router when
+ * {@code app.datasource.routing.enabled=true}. The primary still comes from spring.datasource.*.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public List<ReplicaHealth> replicaHealth(ReplicaRoutingProperties properties, DataSourceProperties primary,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        List<ReplicaHealth> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReplicaRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + i;
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(primary.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : primary.getUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : primary.getPassword())
+                    .build();
+            dataSource.setPoolName(name);
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // replica pools are not beans, so Boot's pool metrics do not see them
+            meterRegistry.ifAvailable(registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(new ReplicaHealth(name, dataSource, properties.getMaxLag()));
+        }
+        return replicas;
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(HikariDataSource primaryDataSource, List<ReplicaHealth> replicaHealth) {
+        // no check here: the heartbeat table is created by Flyway, which runs after this bean;
+        // replicas join the rotation at the first scheduled check
+        return new ReplicaHealthChecker(primaryDataSource, replicaHealth);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 List<ReplicaHealth> replicaHealth,
+                                 ReplicaRoutingProperties properties,
+                                 ReplicaHealthChecker replicaHealthChecker) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+        replicaHealth.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                replicaHealth, new ReadYourWritesTracker(properties.getStickyWindow()));
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,87 @@
+package com.nxtclass.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code /actuator/jfr}: on-demand Flight Recorder profiling, platform operators only (see SecurityConfig).
+ * <ul>
+ *   <li>{@code POST {"preset":"cpu|allocation|locks|socket-io","durationSeconds":60}} starts a recording</li>
+ *   <li>{@code GET} lists recordings, {@code DELETE /{id}} stops one early</li>
+ *   <li>{@code GET /{id}?top=20} summarizes a finished recording</li>
+ *   <li>{@code GET /{id}/{file}} downloads the {@code .jfr} file for JDK Mission Control</li>
+ * </ul>
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private final JfrRecorder recorder;
+
+    public JfrEndpoint(JfrRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public List<JfrRecorder.RecordingInfo> recordings() {
+        return recorder.list();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(String preset, @Nullable Integer durationSeconds) {
+        try {
+            Duration duration = durationSeconds == null ? null : Duration.ofSeconds(durationSeconds);
+            return new WebEndpointResponse<>(recorder.start(JfrPreset.fromId(preset), duration));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(e.getMessage(), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(e.getMessage(), HttpStatus.CONFLICT.value());
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<JfrRecorder.RecordingInfo> stop(@Selector long id) {
+        return recorder.stop(id)
+                .map(WebEndpointResponse::new)
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Object> summary(@Selector long id, @Nullable Integer top) {
+        if (recorder.find(id).isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return recorder.file(id)
+                .<WebEndpointResponse<Object>>map(file -> {
+                    try {
+                        return new WebEndpointResponse<>(JfrSummary.read(file, top == null ? 20 : top));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .orElseGet(() -> new WebEndpointResponse<>("Recording " + id + " is still running",
+                        HttpStatus.CONFLICT.value()));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id, @Selector String file) {
+        return recorder.file(id)
+                .filter(path -> path.getFileName().toString().equals(file))
+                .<WebEndpointResponse<Resource>>map(path -> new WebEndpointResponse<>(new FileSystemResource(path)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+}
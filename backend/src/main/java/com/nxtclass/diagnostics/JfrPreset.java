@@ -0,0 +1,66 @@
+package com.nxtclass.diagnostics;
+
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Event selections for on-demand recordings. Each preset only enables what it needs, with stack
+ * traces, so overhead stays low enough to run against production traffic.
+ */
+public enum JfrPreset {
+
+    /** Method sampling every 20 ms per thread. */
+    CPU {
+        @Override
+        void configure(Recording recording) {
+            recording.enable("jdk.ExecutionSample").withPeriod(Duration.ofMillis(20)).withStackTrace();
+        }
+    },
+    /** Sampled allocations, at most 300 per second. */
+    ALLOCATION {
+        @Override
+        void configure(Recording recording) {
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", "300/s").withStackTrace();
+        }
+    },
+    /** Contended monitors and parked threads (locks, pool waits) longer than 10 ms. */
+    LOCKS {
+        @Override
+        void configure(Recording recording) {
+            recording.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ofMillis(10)).withStackTrace();
+            recording.enable("jdk.JavaMonitorWait").withThreshold(Duration.ofMillis(10)).withStackTrace();
+            recording.enable("jdk.ThreadPark").withThreshold(Duration.ofMillis(10)).withStackTrace();
+        }
+    },
+    /** Socket reads and writes longer than 5 ms; for this app that is mostly JDBC round trips. */
+    SOCKET_IO {
+        @Override
+        void configure(Recording recording) {
+            recording.enable("jdk.SocketRead").withThreshold(Duration.ofMillis(5)).withStackTrace();
+            recording.enable("jdk.SocketWrite").withThreshold(Duration.ofMillis(5)).withStackTrace();
+        }
+    };
+
+    abstract void configure(Recording recording);
+
+    /** GC pauses are recorded with every preset so latency spikes can be told apart from collections. */
+    void apply(Recording recording) {
+        recording.enable("jdk.GarbageCollection");
+        configure(recording);
+    }
+
+    public String id() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static JfrPreset fromId(String id) {
+        return Arrays.stream(values())
+                .filter(preset -> preset.id().equalsIgnoreCase(id) || preset.name().equalsIgnoreCase(id))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown JFR preset: " + id
+                        + " (expected one of " + Arrays.stream(values()).map(JfrPreset::id).toList() + ")"));
+    }
+}
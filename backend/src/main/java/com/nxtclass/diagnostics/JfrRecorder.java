@@ -0,0 +1,160 @@
+package com.nxtclass.diagnostics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded Flight Recorder recordings started on demand. Only one recording runs at a time, each is
+ * capped in duration and size, and only the newest {@code app.jfr.retained} finished files are kept.
+ */
+@Component
+public class JfrRecorder implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(JfrRecorder.class);
+
+    private final Map<Long, Managed> recordings = new ConcurrentHashMap<>();
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private final int retained;
+    private final Path directory;
+
+    public JfrRecorder(@Value("${app.jfr.max-duration:5m}") Duration maxDuration,
+                       @Value("${app.jfr.max-size-mb:100}") long maxSizeMb,
+                       @Value("${app.jfr.retained:5}") int retained,
+                       @Value("${app.jfr.directory:}") String directory) throws IOException {
+        this.maxDuration = maxDuration;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.retained = retained;
+        this.directory = directory.isBlank()
+                ? Files.createTempDirectory("nxtclass-jfr")
+                : Files.createDirectories(Path.of(directory));
+    }
+
+    public record RecordingInfo(long id, String preset, String state, Instant startedAt, Duration duration,
+                                String file) {
+    }
+
+    private record Managed(Recording recording, JfrPreset preset, Instant startedAt, Path file) {
+
+        boolean finished() {
+            return recording.getState() == RecordingState.STOPPED || recording.getState() == RecordingState.CLOSED;
+        }
+
+        RecordingInfo info() {
+            return new RecordingInfo(recording.getId(), preset.id(), recording.getState().name(), startedAt,
+                    recording.getDuration(), file.getFileName().toString());
+        }
+    }
+
+    /**
+     * @throws IllegalStateException when another recording is still running
+     */
+    public synchronized RecordingInfo start(JfrPreset preset, Duration requested) {
+        if (recordings.values().stream().anyMatch(managed -> !managed.finished())) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        Duration duration = requested == null || requested.isNegative() || requested.isZero() || requested.compareTo(maxDuration) > 0
+                ? maxDuration
+                : requested;
+
+        Recording recording = new Recording();
+        preset.apply(recording);
+        recording.setName("nxtclass-" + preset.id());
+        recording.setToDisk(true);
+        recording.setMaxSize(maxSizeBytes);
+        recording.setDuration(duration);
+        Path file = directory.resolve("recording-" + recording.getId() + "-" + preset.id() + ".jfr");
+        try {
+            // written when the recording stops, on its own after the duration or through stop()
+            recording.setDestination(file);
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+        recording.start();
+
+        Managed managed = new Managed(recording, preset, Instant.now(), file);
+        recordings.put(recording.getId(), managed);
+        log.info("Started JFR recording {} ({}) for {}", recording.getId(), preset.id(), duration);
+        prune();
+        return managed.info();
+    }
+
+    public Optional<RecordingInfo> stop(long id) {
+        Managed managed = recordings.get(id);
+        if (managed == null) {
+            return Optional.empty();
+        }
+        if (!managed.finished()) {
+            managed.recording().stop();
+            log.info("Stopped JFR recording {} early", id);
+        }
+        return Optional.of(managed.info());
+    }
+
+    public List<RecordingInfo> list() {
+        return recordings.values().stream()
+                .sorted(Comparator.comparing(Managed::startedAt).reversed())
+                .map(Managed::info)
+                .toList();
+    }
+
+    public Optional<RecordingInfo> find(long id) {
+        return Optional.ofNullable(recordings.get(id)).map(Managed::info);
+    }
+
+    /**
+     * @return the file of a finished recording; empty while it is still running or when unknown
+     */
+    public Optional<Path> file(long id) {
+        return Optional.ofNullable(recordings.get(id))
+                .filter(Managed::finished)
+                .map(Managed::file)
+                .filter(Files::exists);
+    }
+
+    @Override
+    public void destroy() {
+        recordings.values().forEach(managed -> {
+            managed.recording().close();
+            deleteQuietly(managed.file());
+        });
+        recordings.clear();
+    }
+
+    private void prune() {
+        List<Managed> finished = recordings.values().stream()
+                .filter(Managed::finished)
+                .sorted(Comparator.comparing(Managed::startedAt).reversed())
+                .toList();
+        finished.stream().skip(Math.max(0, retained - 1)).forEach(managed -> {
+            recordings.remove(managed.recording().getId());
+            managed.recording().close();
+            deleteQuietly(managed.file());
+        });
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", file, e.toString());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.nxtclass.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server-side digest of a finished recording: the top-N entries per category, so an admin can see
+ * the answer without downloading the file and opening JDK Mission Control.
+ *
+ * @param hotMethods      CPU samples by executing (top) frame
+ * @param allocationSites sampled allocation weight in bytes by allocated class and first application frame
+ * @param lockContention  blocked/parked milliseconds by first application frame
+ * @param socketIo        socket read/write milliseconds by first application frame
+ * @param gcPauseMillis   total time in garbage collections
+ */
+public record JfrSummary(long events,
+                         List<Entry> hotMethods,
+                         List<Entry> allocationSites,
+                         List<Entry> lockContention,
+                         List<Entry> socketIo,
+                         long gcPauseMillis) {
+
+    public record Entry(String site, long value, double percent) {
+    }
+
+    static JfrSummary read(Path file, int top) throws IOException {
+        Map<String, Long> cpu = new HashMap<>();
+        Map<String, Long> allocation = new HashMap<>();
+        Map<String, Long> locks = new HashMap<>();
+        Map<String, Long> io = new HashMap<>();
+        long events = 0;
+        long gcNanos = 0;
+
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                events++;
+                switch (event.getEventType().getName()) {
+                    case "jdk.ExecutionSample" -> cpu.merge(topFrame(event.getStackTrace()), 1L, Long::sum);
+                    case "jdk.ObjectAllocationSample" -> allocation.merge(
+                            event.getClass("objectClass").getName() + " @ " + applicationFrame(event.getStackTrace()),
+                            event.getLong("weight"), Long::sum);
+                    case "jdk.JavaMonitorEnter", "jdk.JavaMonitorWait", "jdk.ThreadPark" -> locks.merge(
+                            applicationFrame(event.getStackTrace()), event.getDuration().toMillis(), Long::sum);
+                    case "jdk.SocketRead", "jdk.SocketWrite" -> io.merge(
+                            applicationFrame(event.getStackTrace()), event.getDuration().toMillis(), Long::sum);
+                    case "jdk.GarbageCollection" -> gcNanos += event.getDuration().toNanos();
+                    default -> {
+                    }
+                }
+            }
+        }
+        return new JfrSummary(events, top(cpu, top), top(allocation, top), top(locks, top), top(io, top),
+                gcNanos / 1_000_000);
+    }
+
+    private static List<Entry> top(Map<String, Long> totals, int n) {
+        long sum = totals.values().stream().mapToLong(Long::longValue).sum();
+        return totals.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(n)
+                .map(e -> new Entry(e.getKey(), e.getValue(), sum == 0 ? 0 : Math.round(e.getValue() * 1000.0 / sum) / 10.0))
+                .toList();
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<no stack>";
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    /**
+     * The innermost frame outside the JDK: who asked to allocate, lock or read, rather than the
+     * {@code ArrayList.grow} or {@code SocketInputStream.read} that did it.
+     */
+    private static String applicationFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<no stack>";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return describe(stackTrace.getFrames().get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
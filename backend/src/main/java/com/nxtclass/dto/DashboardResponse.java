@@ -0,0 +1,14 @@
+package com.nxtclass.dto;
+
+import java.util.Map;
+
+/**
+ * Composite dashboard payload. {@code parts} holds every part that completed in time;
+ * {@code unavailable} maps each missing part to the reason (timeout or error).
+ */
+public record DashboardResponse(
+        String role,
+        Map<String, Object> parts,
+        Map<String, String> unavailable
+) {
+}
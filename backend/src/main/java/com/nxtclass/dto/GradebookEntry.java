@@ -0,0 +1,20 @@
+package com.nxtclass.dto;
+
+import com.nxtclass.gradebook.GradeBand;
+
+import java.util.Map;
+
+/**
+ * Running totals for one subject, or for all subjects when {@code subject} is null.
+ * {@code average} is the points-weighted percentage, null until something is graded.
+ */
+public record GradebookEntry(
+        String subject,
+        long graded,
+        long score,
+        long points,
+        Double average,
+        GradeBand letter,
+        Map<GradeBand, Long> distribution
+) {
+}
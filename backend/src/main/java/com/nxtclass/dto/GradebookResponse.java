@@ -0,0 +1,13 @@
+package com.nxtclass.dto;
+
+import com.nxtclass.gradebook.GradebookScope;
+
+import java.util.List;
+
+public record GradebookResponse(
+        GradebookScope scope,
+        Long scopeIdentifier,
+        GradebookEntry overall,
+        List<GradebookEntry> subjects
+) {
+}
@@ -0,0 +1,17 @@
+package com.nxtclass.dto;
+
+import com.nxtclass.entity.AssignmentStatus;
+
+import java.time.LocalDate;
+
+public record SubmissionDTO(
+        Long identifier,
+        Long assignmentId,
+        String title,
+        String subject,
+        LocalDate dueDate,
+        AssignmentStatus status,
+        Integer score,
+        Integer totalPoints
+) {
+}
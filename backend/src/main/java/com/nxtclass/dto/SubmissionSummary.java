@@ -0,0 +1,11 @@
+package com.nxtclass.dto;
+
+public record SubmissionSummary(
+        Long assignmentId,
+        long total,
+        long pending,
+        long submitted,
+        long graded,
+        double completionRate
+) {
+}
@@ -0,0 +1,17 @@
+package com.nxtclass.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nxtclass.event.EntityChangeEvent;
+
+/**
+ * One changed entity. {@code data} is the entity's current state, or {@code null} for a
+ * DELETED tombstone.
+ */
+public record SyncChange(
+        long seq,
+        String entityType,
+        Long identifier,
+        EntityChangeEvent.ChangeType changeType,
+        JsonNode data
+) {
+}
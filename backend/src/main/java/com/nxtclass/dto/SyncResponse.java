@@ -0,0 +1,14 @@
+package com.nxtclass.dto;
+
+import java.util.List;
+
+/**
+ * A page of changes after the requested cursor. Pass {@code cursor} as {@code since} on the next
+ * call; keep calling while {@code hasMore} is true.
+ */
+public record SyncResponse(
+        long cursor,
+        boolean hasMore,
+        List<SyncChange> changes
+) {
+}
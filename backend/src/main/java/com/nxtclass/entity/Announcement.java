@@ -1,25 +1,35 @@
 package com.nxtclass.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nxtclass.event.EntityChangeListener;
+import com.nxtclass.tenant.TenantGuard;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "announcements")
+@EntityListeners({TenantGuard.class, EntityChangeListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
-public class Announcement {
+public class Announcement implements TenantScoped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @JsonIgnore
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
     @NotBlank(message = "Title is required")
     @Column(nullable = false)
     private String title;
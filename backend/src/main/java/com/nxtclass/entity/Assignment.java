@@ -1,5 +1,8 @@
 package com.nxtclass.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nxtclass.event.EntityChangeListener;
+import com.nxtclass.tenant.TenantGuard;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,20 +10,27 @@ import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.TenantId;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "assignments")
+@EntityListeners({TenantGuard.class, EntityChangeListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
-public class Assignment {
+public class Assignment implements TenantScoped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @JsonIgnore
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
     @NotBlank(message = "Title is required")
     @Column(nullable = false)
     private String title;
@@ -44,6 +54,12 @@ public class Assignment {
     @Column(name = "total_points", nullable = false)
     private Integer totalPoints;
 
+    @Column(name = "grade_identifier")
+    private Long gradeIdentifier;
+
+    @Column(name = "section_identifier")
+    private Long sectionIdentifier; // nullable: whole grade when not set
+
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
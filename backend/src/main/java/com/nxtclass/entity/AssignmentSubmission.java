@@ -0,0 +1,51 @@
+package com.nxtclass.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One student's progress on one assignment. Rows are created in bulk when the assignment
+ * is published to a grade or section (see SubmissionAPI.publish).
+ */
+@Entity
+@Table(name = "assignment_submissions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_submission_assignment_student",
+                columnNames = {"assignment_id", "student_identifier"}))
+@Getter
+@Setter
+public class AssignmentSubmission extends BaseDomain {
+
+    @Column(name = "assignment_id", nullable = false)
+    private Long assignmentId;
+
+    @Column(name = "student_identifier", nullable = false)
+    private Long studentIdentifier;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AssignmentStatus status = AssignmentStatus.PENDING;
+
+    @Column(name = "score")
+    private Integer score;
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    @Column(name = "graded_at")
+    private LocalDateTime gradedAt;
+
+    // the student's grade and section when graded: the gradebook rows the score is counted in
+    @Column(name = "graded_grade_identifier")
+    private Long gradedGradeIdentifier;
+
+    @Column(name = "graded_section_identifier")
+    private Long gradedSectionIdentifier;
+}
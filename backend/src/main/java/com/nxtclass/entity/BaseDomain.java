@@ -1,19 +1,31 @@
 package com.nxtclass.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nxtclass.tenant.TenantGuard;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.TenantId;
 
 @MappedSuperclass
+@EntityListeners(TenantGuard.class)
 @Setter
 @Getter
-public class BaseDomain {
+public class BaseDomain implements TenantScoped {
 
     @Id
     @GeneratedValue(generator = "custom-id")
     @GenericGenerator(name = "custom-id", strategy = "com.nxtclass.config.IdentityGeneratorClass")
     private Long identifier;
+
+    // set from the session's tenant on insert; every query is filtered on it
+    @TenantId
+    @JsonIgnore
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
 }
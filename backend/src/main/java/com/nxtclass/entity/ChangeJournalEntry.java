@@ -0,0 +1,51 @@
+package com.nxtclass.entity;
+
+import com.nxtclass.event.EntityChangeEvent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.TenantId;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of the change journal (see {@link com.nxtclass.event.ChangeJournal}). Rows are inserted
+ * over JDBC during flush and read through {@code ChangeJournalRepo}.
+ */
+@Entity
+@Table(name = "change_journal", indexes = {
+        @Index(name = "idx_change_journal_changed_at", columnList = "changed_at"),
+        @Index(name = "idx_change_journal_tenant_seq", columnList = "tenant_id, seq")})
+@Getter
+@Setter
+public class ChangeJournalEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
+    @Column(name = "entity_type", nullable = false, length = 64)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private EntityChangeEvent.ChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -1,7 +1,9 @@
 package com.nxtclass.entity;
 
+import com.nxtclass.event.EntityChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Lob;
 import jakarta.persistence.OneToMany;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
@@ -9,11 +11,15 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.FetchType;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "grade")
 @Getter
 @Setter
 public class Grade extends BaseDomain{
@@ -25,6 +31,7 @@ public class Grade extends BaseDomain{
     private String description;
 
     @JsonManagedReference
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "grade.sections")
     @OneToMany(mappedBy = "grade", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Section> sections = new ArrayList<>();
 
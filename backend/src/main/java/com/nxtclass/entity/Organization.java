@@ -0,0 +1,46 @@
+package com.nxtclass.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+
+/**
+ * A school or district: the tenant every {@link TenantScoped} row belongs to. Its identifier is
+ * the {@code tenant_id} of those rows and the {@code tenant} claim of its users' tokens.
+ */
+@Entity
+@Table(name = "organizations")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Organization {
+
+    @Id
+    @GeneratedValue(generator = "custom-id")
+    @GenericGenerator(name = "custom-id", strategy = "com.nxtclass.config.IdentityGeneratorClass")
+    private Long identifier;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public Organization(String name) {
+        this.name = name;
+    }
+}
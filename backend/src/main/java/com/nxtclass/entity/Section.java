@@ -1,14 +1,20 @@
 package com.nxtclass.entity;
 
+import com.nxtclass.event.EntityChangeListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "section")
 @Getter
 @Setter
 public class Section extends BaseDomain {
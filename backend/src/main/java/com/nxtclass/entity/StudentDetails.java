@@ -1,11 +1,14 @@
 package com.nxtclass.entity;
 
+import com.nxtclass.event.EntityChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Setter
 @Getter
 public class StudentDetails extends BaseDomain{
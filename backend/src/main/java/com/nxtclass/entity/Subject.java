@@ -1,14 +1,20 @@
 package com.nxtclass.entity;
 
+import com.nxtclass.event.EntityChangeListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @Entity
 @Table(name = "subjects")
+@EntityListeners(EntityChangeListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subject")
 public class Subject extends BaseDomain {
     
     private String subject;
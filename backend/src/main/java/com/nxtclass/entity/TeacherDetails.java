@@ -1,7 +1,9 @@
 package com.nxtclass.entity;
 
+import com.nxtclass.event.EntityChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -9,6 +11,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@EntityListeners(EntityChangeListener.class)
 @Getter
 @Setter
 public class TeacherDetails extends BaseDomain{
@@ -0,0 +1,9 @@
+package com.nxtclass.entity;
+
+/**
+ * An entity owned by one organization, through its {@code tenant_id} column.
+ */
+public interface TenantScoped {
+
+    Long getTenantId();
+}
@@ -0,0 +1,156 @@
+package com.nxtclass.event;
+
+import com.nxtclass.repository.ChangeJournalRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only log of entity changes backing {@code /api/sync}. Rows are written by
+ * {@link EntityChangeListener} during flush, over JDBC on the same connection and in the same
+ * transaction as the change itself (the session cannot persist from inside a flush), so a
+ * rolled-back change never shows up in the journal. {@code seq} is assigned by the database and
+ * only ever increases; each entry carries the tenant of its entity, so a client only syncs its own
+ * organization's changes.
+ * <p>
+ * {@code changed_at} is the database's clock at insert, so every application instance measures
+ * the sync settle window against the same clock. The window only works if a transaction commits
+ * its entries before they have settled, so a transaction that is still open
+ * {@code app.sync.journal-transaction-timeout} after its first entry is rolled back at commit;
+ * the settle window must be longer than that.
+ */
+@Component
+public class ChangeJournal {
+    private static final Logger log = LoggerFactory.getLogger(ChangeJournal.class);
+
+    private final JdbcTemplate jdbc;
+    private final ChangeJournalRepo repo;
+    private final int retentionDays;
+    private final Duration transactionTimeout;
+    private volatile String insert;
+    private volatile String now;
+
+    public ChangeJournal(JdbcTemplate jdbc,
+                         ChangeJournalRepo repo,
+                         @Value("${app.sync.journal-retention-days:30}") int retentionDays,
+                         @Value("${app.sync.journal-transaction-timeout:10s}") Duration transactionTimeout,
+                         @Value("${app.sync.settle-window:15s}") Duration settleWindow) {
+        if (settleWindow.compareTo(transactionTimeout) <= 0) {
+            throw new IllegalStateException("app.sync.settle-window must be longer than app.sync.journal-transaction-timeout");
+        }
+        this.jdbc = jdbc;
+        this.repo = repo;
+        this.retentionDays = retentionDays;
+        this.transactionTimeout = transactionTimeout;
+    }
+
+    void record(Class<?> entityType, Object identifier, EntityChangeEvent.ChangeType changeType, Long tenantId) {
+        enforceTransactionTimeout();
+        jdbc.update(insert(), entityType.getSimpleName(), identifier, changeType.name(), tenantId);
+    }
+
+    /**
+     * Journals rows changed by bulk SQL, which the entity listener never sees. Must be called in
+     * the transaction that changes them.
+     *
+     * @param tenantByIdentifier tenant of each changed row, by its id
+     */
+    public void recordAll(Class<?> entityType, Map<Long, Long> tenantByIdentifier, EntityChangeEvent.ChangeType changeType) {
+        enforceTransactionTimeout();
+        List<Object[]> rows = new ArrayList<>(tenantByIdentifier.size());
+        tenantByIdentifier.forEach((identifier, tenantId) ->
+                rows.add(new Object[]{entityType.getSimpleName(), identifier, changeType.name(), tenantId}));
+        jdbc.batchUpdate(insert(), rows);
+    }
+
+    /**
+     * The database's current time, on the clock {@code changed_at} is written with.
+     */
+    public LocalDateTime databaseNow() {
+        return jdbc.queryForObject("SELECT " + now(), LocalDateTime.class);
+    }
+
+    /**
+     * Drops entries past the retention window. The newest entry is always kept, so the oldest
+     * remaining seq still tells an expired cursor apart from an empty journal.
+     */
+    @Transactional
+    @Scheduled(cron = "${app.sync.journal-purge-cron:0 0 3 * * *}")
+    public void purge() {
+        Long upTo = repo.findLatestSeqBefore(databaseNow().minusDays(retentionDays));
+        Long newest = repo.findLatestSeq();
+        if (upTo == null || newest == null) {
+            return;
+        }
+        int deleted = repo.deleteUpTo(Math.min(upTo, newest - 1));
+        log.info("Purged {} change journal entries older than {} days", deleted, retentionDays);
+    }
+
+    /**
+     * Starts the clock on the current transaction at its first entry; it must commit within the
+     * timeout or sync clients may already have moved past its sequence numbers.
+     */
+    private void enforceTransactionTimeout() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        long firstEntry = System.nanoTime();
+        TransactionSynchronizationManager.bindResource(this, firstEntry);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                Duration open = Duration.ofNanos(System.nanoTime() - firstEntry);
+                if (open.compareTo(transactionTimeout) > 0) {
+                    throw new IllegalStateException("Transaction stayed open " + open.toMillis()
+                            + " ms after its first change journal entry, longer than app.sync.journal-transaction-timeout ("
+                            + transactionTimeout.toMillis() + " ms); rolled back so sync clients cannot miss its changes");
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeJournal.this);
+            }
+        });
+    }
+
+    private String insert() {
+        if (insert == null) {
+            insert = "INSERT INTO change_journal (entity_type, entity_id, change_type, changed_at, tenant_id) "
+                    + "VALUES (?, ?, ?, " + now() + ", ?)";
+        }
+        return insert;
+    }
+
+    /**
+     * Wall-clock time of the current statement. Postgres' CURRENT_TIMESTAMP is the start of the
+     * transaction, which would make entries of long transactions look settled too early.
+     */
+    private String now() {
+        if (now == null) {
+            String product = jdbc.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                now = "CAST(statement_timestamp() AS TIMESTAMP)";
+            } else if ("MySQL".equalsIgnoreCase(product)) {
+                now = "NOW(6)";
+            } else {
+                now = "LOCALTIMESTAMP";
+            }
+        }
+        return now;
+    }
+}
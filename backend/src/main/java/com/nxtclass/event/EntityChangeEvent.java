@@ -0,0 +1,20 @@
+package com.nxtclass.event;
+
+/**
+ * Published whenever a tracked entity is inserted, updated or deleted. {@code tenantId} is the
+ * organization that owns the entity.
+ * Listeners that must only react to committed data should use
+ * {@code @TransactionalEventListener(phase = AFTER_COMMIT)}.
+ */
+public record EntityChangeEvent(
+        Class<?> entityType,
+        Object identifier,
+        ChangeType changeType,
+        Long tenantId
+) {
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,55 @@
+package com.nxtclass.event;
+
+import com.nxtclass.entity.TenantScoped;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that records lifecycle callbacks in the {@link ChangeJournal} and turns
+ * them into {@link EntityChangeEvent}s.
+ * Register it on an entity with {@code @EntityListeners(EntityChangeListener.class)}.
+ */
+@Component
+public class EntityChangeListener {
+
+    private final ApplicationEventPublisher publisher;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final ObjectProvider<ChangeJournal> changeJournal;
+
+    public EntityChangeListener(ApplicationEventPublisher publisher,
+                                ObjectProvider<EntityManagerFactory> entityManagerFactory,
+                                ObjectProvider<ChangeJournal> changeJournal) {
+        this.publisher = publisher;
+        this.entityManagerFactory = entityManagerFactory;
+        this.changeJournal = changeJournal;
+    }
+
+    @PostPersist
+    public void onCreate(Object entity) {
+        publish(entity, EntityChangeEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        publish(entity, EntityChangeEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDelete(Object entity) {
+        publish(entity, EntityChangeEvent.ChangeType.DELETED);
+    }
+
+    private void publish(Object entity, EntityChangeEvent.ChangeType changeType) {
+        Object identifier = entityManagerFactory.getObject().getPersistenceUnitUtil().getIdentifier(entity);
+        Class<?> entityType = Hibernate.getClass(entity);
+        Long tenantId = entity instanceof TenantScoped scoped ? scoped.getTenantId() : null;
+        changeJournal.getObject().record(entityType, identifier, changeType, tenantId);
+        publisher.publishEvent(new EntityChangeEvent(entityType, identifier, changeType, tenantId));
+    }
+}
@@ -0,0 +1,38 @@
+package com.nxtclass.gradebook;
+
+import java.util.Locale;
+
+/**
+ * Letter bands of the score distribution, by percentage of the points available. Comparisons are
+ * done as {@code score * 100 >= minPercent * points} so Java and the rebuild SQL band identically.
+ */
+public enum GradeBand {
+    A(90),
+    B(80),
+    C(70),
+    D(60),
+    F(0);
+
+    private final int minPercent;
+
+    GradeBand(int minPercent) {
+        this.minPercent = minPercent;
+    }
+
+    public static GradeBand of(long score, long points) {
+        for (GradeBand band : values()) {
+            if (band != F && score * 100 >= band.minPercent * points) {
+                return band;
+            }
+        }
+        return F;
+    }
+
+    int minPercent() {
+        return minPercent;
+    }
+
+    String column() {
+        return "band_" + name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,250 @@
+package com.nxtclass.gradebook;
+
+import com.nxtclass.dto.GradebookEntry;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Running score totals per student, section, grade and organization, one row per subject in
+ * {@code gradebook_aggregates}. Grade writes post their delta through a {@link Ledger} in the
+ * same transaction, so reads are one primary-key range and never scan the submissions.
+ */
+@Component
+public class Gradebook {
+
+    private static final String TABLE = "gradebook_aggregates";
+    private static final String KEY_COLUMNS = "tenant_id, scope, scope_identifier, subject";
+    // graded_count, score_sum, points_sum, then one count per GradeBand in ordinal order
+    private static final List<String> COUNTERS = Stream.concat(
+            Stream.of("graded_count", "score_sum", "points_sum"),
+            Arrays.stream(GradeBand.values()).map(GradeBand::column)).toList();
+    private static final int BANDS_FROM = 3;
+    private static final String INSERT = "INSERT INTO " + TABLE + " (" + KEY_COLUMNS + ", " + String.join(", ", COUNTERS)
+            + ") VALUES (" + String.join(", ", Collections.nCopies(4 + COUNTERS.size(), "?")) + ")";
+    // counters first, then the key
+    private static final String UPDATE = "UPDATE " + TABLE + " SET "
+            + COUNTERS.stream().map(c -> c + " = " + c + " + ?").collect(Collectors.joining(", "))
+            + " WHERE tenant_id = ? AND scope = ? AND scope_identifier = ? AND subject = ?";
+
+    private final JdbcTemplate jdbc;
+    private volatile String upsert;
+
+    public Gradebook(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Adds the ledger's deltas to the stored totals. Rows are upserted in key order, so concurrent
+     * grade writes lock shared rows in the same order. Without an upsert statement, two transactions
+     * creating the same row at once fail on its primary key; that only happens on embedded databases.
+     */
+    public void apply(Ledger ledger) {
+        List<Object[]> rows = new ArrayList<>();
+        ledger.deltas.forEach((key, delta) -> {
+            if (Arrays.stream(delta).anyMatch(value -> value != 0)) {
+                Object[] row = new Object[4 + delta.length];
+                row[0] = ledger.tenantId;
+                row[1] = key.scope().name();
+                row[2] = key.scopeIdentifier();
+                row[3] = key.subject();
+                for (int i = 0; i < delta.length; i++) {
+                    row[4 + i] = delta[i];
+                }
+                rows.add(row);
+            }
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+        String upsert = upsert();
+        if (upsert != null) {
+            jdbc.batchUpdate(upsert, rows);
+            return;
+        }
+        // no upsert in this dialect: add to the rows that exist, then insert the others
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Object[] update = new Object[row.length];
+            System.arraycopy(row, 4, update, 0, COUNTERS.size());
+            System.arraycopy(row, 0, update, COUNTERS.size(), 4);
+            updates.add(update);
+        }
+        int[] updated = jdbc.batchUpdate(UPDATE, updates);
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                inserts.add(rows.get(i));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbc.batchUpdate(INSERT, inserts);
+        }
+    }
+
+    /**
+     * @return the per-subject totals of one scope, ordered by subject
+     */
+    public List<GradebookEntry> find(long tenantId, GradebookScope scope, long scopeIdentifier) {
+        return jdbc.query("SELECT subject, " + String.join(", ", COUNTERS) + " FROM " + TABLE
+                        + " WHERE tenant_id = ? AND scope = ? AND scope_identifier = ? ORDER BY subject",
+                (rs, rowNum) -> {
+                    Map<GradeBand, Long> distribution = new EnumMap<>(GradeBand.class);
+                    for (GradeBand band : GradeBand.values()) {
+                        distribution.put(band, rs.getLong(band.column()));
+                    }
+                    return entry(rs.getString("subject"), rs.getLong("graded_count"), rs.getLong("score_sum"),
+                            rs.getLong("points_sum"), distribution);
+                },
+                tenantId, scope.name(), scopeIdentifier);
+    }
+
+    /**
+     * Sums per-subject entries into an all-subjects entry.
+     */
+    public static GradebookEntry total(List<GradebookEntry> subjects) {
+        long graded = 0;
+        long score = 0;
+        long points = 0;
+        Map<GradeBand, Long> distribution = new EnumMap<>(GradeBand.class);
+        for (GradeBand band : GradeBand.values()) {
+            distribution.put(band, 0L);
+        }
+        for (GradebookEntry subject : subjects) {
+            graded += subject.graded();
+            score += subject.score();
+            points += subject.points();
+            subject.distribution().forEach((band, count) -> distribution.merge(band, count, Long::sum));
+        }
+        return entry(null, graded, score, points, distribution);
+    }
+
+    /**
+     * Recomputes one tenant's totals from its graded submissions, counting each in the grade and
+     * section it was graded in, as the deltas do. For repair; must run inside a transaction.
+     */
+    public void rebuild(long tenantId) {
+        jdbc.update("DELETE FROM " + TABLE + " WHERE tenant_id = ?", tenantId);
+        rebuild(tenantId, GradebookScope.STUDENT, "s.student_identifier");
+        rebuild(tenantId, GradebookScope.SECTION, "s.graded_section_identifier");
+        rebuild(tenantId, GradebookScope.GRADE, "s.graded_grade_identifier");
+        rebuild(tenantId, GradebookScope.ORGANIZATION, "s.tenant_id");
+    }
+
+    private void rebuild(long tenantId, GradebookScope scope, String scopeIdentifier) {
+        String bands = Arrays.stream(GradeBand.values()).map(Gradebook::bandCount).collect(Collectors.joining(", "));
+        jdbc.update("INSERT INTO " + TABLE + " (" + KEY_COLUMNS + ", " + String.join(", ", COUNTERS) + ")"
+                + " SELECT s.tenant_id, '" + scope.name() + "', " + scopeIdentifier + ", a.subject,"
+                + " COUNT(*), SUM(s.score), SUM(a.total_points), " + bands
+                + " FROM assignment_submissions s JOIN assignments a ON a.id = s.assignment_id"
+                + " WHERE s.tenant_id = ? AND s.status = 'GRADED' AND s.score IS NOT NULL"
+                + " AND " + scopeIdentifier + " IS NOT NULL"
+                + " GROUP BY s.tenant_id, " + scopeIdentifier + ", a.subject", tenantId);
+    }
+
+    // the same banding as GradeBand.of: at least this band's minimum, below the next band up
+    private static String bandCount(GradeBand band) {
+        List<String> conditions = new ArrayList<>();
+        if (band != GradeBand.F) {
+            conditions.add("s.score * 100 >= " + band.minPercent() + " * a.total_points");
+        }
+        if (band != GradeBand.A) {
+            GradeBand above = GradeBand.values()[band.ordinal() - 1];
+            conditions.add("s.score * 100 < " + above.minPercent() + " * a.total_points");
+        }
+        return "SUM(CASE WHEN " + String.join(" AND ", conditions) + " THEN 1 ELSE 0 END)";
+    }
+
+    private static GradebookEntry entry(String subject, long graded, long score, long points,
+                                        Map<GradeBand, Long> distribution) {
+        Double average = graded == 0 || points == 0 ? null : Math.round(score * 1000.0 / points) / 10.0;
+        GradeBand letter = graded == 0 ? null : GradeBand.of(score, points);
+        return new GradebookEntry(subject, graded, score, points, average, letter,
+                Collections.unmodifiableMap(distribution));
+    }
+
+    /**
+     * The single-statement upsert of this database, or null where there is none (H2, including
+     * its Postgres and MySQL compatibility modes, which the tests and local profiles run on).
+     */
+    private String upsert() {
+        if (upsert == null) {
+            String product = jdbc.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                upsert = INSERT + " ON CONFLICT (" + KEY_COLUMNS + ") DO UPDATE SET " + COUNTERS.stream()
+                        .map(c -> c + " = " + TABLE + "." + c + " + EXCLUDED." + c).collect(Collectors.joining(", "));
+            } else if ("MySQL".equalsIgnoreCase(product) || "MariaDB".equalsIgnoreCase(product)) {
+                upsert = INSERT + " ON DUPLICATE KEY UPDATE " + COUNTERS.stream()
+                        .map(c -> c + " = " + c + " + VALUES(" + c + ")").collect(Collectors.joining(", "));
+            } else {
+                upsert = "";
+            }
+        }
+        return upsert.isEmpty() ? null : upsert;
+    }
+
+    /**
+     * Deltas for one tenant, summed per row before they are written, so grading a whole
+     * assignment's worth of changes costs one upsert per affected row.
+     */
+    public static final class Ledger {
+
+        private final long tenantId;
+        private final Map<Key, long[]> deltas = new TreeMap<>();
+
+        public Ledger(long tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        /**
+         * Counts one graded submission into ({@code sign} 1) or out of ({@code sign} -1) every scope it
+         * belongs to. Grade and section are the ones the score is (or was) counted in; either may be null.
+         */
+        public Ledger post(String subject, int totalPoints, Long studentIdentifier, Long gradeIdentifier,
+                           Long sectionIdentifier, int score, int sign) {
+            long[] delta = new long[COUNTERS.size()];
+            delta[0] = sign;
+            delta[1] = (long) sign * score;
+            delta[2] = (long) sign * totalPoints;
+            delta[BANDS_FROM + GradeBand.of(score, totalPoints).ordinal()] = sign;
+            add(GradebookScope.STUDENT, studentIdentifier, subject, delta);
+            add(GradebookScope.SECTION, sectionIdentifier, subject, delta);
+            add(GradebookScope.GRADE, gradeIdentifier, subject, delta);
+            add(GradebookScope.ORGANIZATION, tenantId, subject, delta);
+            return this;
+        }
+
+        private void add(GradebookScope scope, Long scopeIdentifier, String subject, long[] delta) {
+            if (scopeIdentifier == null) {
+                return;
+            }
+            long[] total = deltas.computeIfAbsent(new Key(scope, scopeIdentifier, subject), k -> new long[delta.length]);
+            for (int i = 0; i < delta.length; i++) {
+                total[i] += delta[i];
+            }
+        }
+    }
+
+    private record Key(GradebookScope scope, long scopeIdentifier, String subject) implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::scope)
+                .thenComparingLong(Key::scopeIdentifier)
+                .thenComparing(Key::subject);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
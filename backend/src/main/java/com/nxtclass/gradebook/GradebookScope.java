@@ -0,0 +1,12 @@
+package com.nxtclass.gradebook;
+
+/**
+ * What a gradebook row aggregates over. The scope identifier is the student, section or grade
+ * identifier; organization rows use the tenant id.
+ */
+public enum GradebookScope {
+    STUDENT,
+    SECTION,
+    GRADE,
+    ORGANIZATION
+}
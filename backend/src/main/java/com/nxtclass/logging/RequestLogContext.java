@@ -0,0 +1,69 @@
+package com.nxtclass.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-request logging state, bound to the request thread by {@link RequestLogFilter} and read by
+ * {@link RequestSamplingTurboFilter} and {@link RequestStatementInspector}. Statements are kept as
+ * the SQL strings Hibernate prepared and only written out if the request turns out to be slow.
+ */
+public final class RequestLogContext {
+
+    private static final ThreadLocal<RequestLogContext> CURRENT = new ThreadLocal<>();
+
+    private final boolean sampled;
+    private final boolean capturing;
+    private final int maxCaptured;
+    private final List<String> captured;
+    private int statements;
+
+    private RequestLogContext(boolean sampled, boolean capturing, int maxCaptured) {
+        this.sampled = sampled;
+        this.capturing = capturing;
+        this.maxCaptured = maxCaptured;
+        this.captured = capturing ? new ArrayList<>() : List.of();
+    }
+
+    static RequestLogContext begin(boolean sampled, boolean capturing, int maxCaptured) {
+        RequestLogContext context = new RequestLogContext(sampled, capturing, maxCaptured);
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestLogContext current() {
+        return CURRENT.get();
+    }
+
+    boolean sampled() {
+        return sampled;
+    }
+
+    boolean capturing() {
+        return capturing;
+    }
+
+    void statement(String sql) {
+        statements++;
+        if (captured.size() < maxCaptured) {
+            captured.add(sql);
+        }
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    List<String> render() {
+        List<String> lines = new ArrayList<>(captured.size() + 1);
+        captured.forEach(sql -> lines.add("[sql] " + sql));
+        if (statements > captured.size()) {
+            lines.add("... " + (statements - captured.size()) + " more statements not captured");
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,98 @@
+package com.nxtclass.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outermost filter: tags every log line of a request with {@code requestId} (and {@code sampled}),
+ * decides whether the request is sampled for verbose logging, and writes one "expensive request"
+ * entry with the captured SQL when it takes longer than {@code app.logging.expensive-request.threshold}.
+ * Fast requests only pay for keeping references to the statements they ran. The entry has the SQL
+ * with its placeholders; bind values are only logged by sampled requests.
+ * <p>
+ * SQL issued on other threads (dashboard parts, async work) is not captured. Long-lived
+ * {@code /api/stream} connections are skipped.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestLogFilter extends OncePerRequestFilter {
+    private static final Logger expensiveLog = LoggerFactory.getLogger("com.nxtclass.expensive-request");
+
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private final double sampleRate;
+    private final boolean expensiveEnabled;
+    private final Duration threshold;
+    private final int maxCapturedLines;
+
+    public RequestLogFilter(@Value("${app.logging.sample-rate:0.01}") double sampleRate,
+                            @Value("${app.logging.expensive-request.enabled:true}") boolean expensiveEnabled,
+                            @Value("${app.logging.expensive-request.threshold:500ms}") Duration threshold,
+                            @Value("${app.logging.expensive-request.max-captured-lines:500}") int maxCapturedLines) {
+        this.sampleRate = sampleRate;
+        this.expensiveEnabled = expensiveEnabled;
+        this.threshold = threshold;
+        this.maxCapturedLines = maxCapturedLines;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith("/api/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isBlank() || requestId.length() > 64) {
+            requestId = UUID.randomUUID().toString().substring(0, 8);
+        }
+        boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        MDC.put("requestId", requestId);
+        if (sampled) {
+            MDC.put("sampled", "true");
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        RequestLogContext context = RequestLogContext.begin(sampled, expensiveEnabled, maxCapturedLines);
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestLogContext.end();
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            if (expensiveEnabled && elapsedMillis >= threshold.toMillis()) {
+                logExpensive(request, response, elapsedMillis, context);
+            }
+            MDC.remove("requestId");
+            MDC.remove("sampled");
+        }
+    }
+
+    private static void logExpensive(HttpServletRequest request, HttpServletResponse response, long elapsedMillis,
+                                     RequestLogContext context) {
+        String target = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+        List<String> lines = context.render();
+        expensiveLog.warn("{} {} -> {} in {} ms, {} SQL statements{}", request.getMethod(), target,
+                response.getStatus(), elapsedMillis, context.statements(),
+                lines.isEmpty() ? "" : "\n  " + String.join("\n  ", lines));
+    }
+}
@@ -0,0 +1,55 @@
+package com.nxtclass.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-request sampling for verbose categories (configured in logback-spring.xml): in a sampled
+ * request, DEBUG/TRACE from {@code verboseCategories} is logged whatever the configured level, so
+ * one request in {@code app.logging.sample-rate} carries the full trail. Every other request, and
+ * anything outside a request, gets the configured levels unchanged, so Hibernate's SQL and bind
+ * logging stays switched off for them (the slow-request log uses {@link RequestStatementInspector}).
+ */
+public class RequestSamplingTurboFilter extends TurboFilter {
+
+    private final Map<String, Boolean> verbose = new ConcurrentHashMap<>();
+    private List<String> verboseCategories = List.of();
+
+    public void setVerboseCategories(String verboseCategories) {
+        this.verboseCategories = split(verboseCategories);
+        verbose.clear();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.INFO)) {
+            return FilterReply.NEUTRAL;
+        }
+        RequestLogContext context = RequestLogContext.current();
+        if (context == null || !context.sampled()) {
+            return FilterReply.NEUTRAL;
+        }
+        return verbose.computeIfAbsent(logger.getName(), this::isVerbose) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+
+    private boolean isVerbose(String loggerName) {
+        for (String prefix : verboseCategories) {
+            if (loggerName.equals(prefix) || loggerName.startsWith(prefix + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+}
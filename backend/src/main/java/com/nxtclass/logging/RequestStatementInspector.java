@@ -0,0 +1,33 @@
+package com.nxtclass.logging;
+
+import com.nxtclass.config.StatementInspectors;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Hands every statement Hibernate prepares on a request thread to its {@link RequestLogContext}.
+ * The SQL arrives as the string Hibernate already built, placeholders and all, so keeping it
+ * costs one reference; SQL logging itself stays off unless the request is sampled.
+ */
+@Component
+@ConditionalOnProperty(name = "app.logging.expensive-request.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestStatementInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    @Override
+    public String inspect(String sql) {
+        RequestLogContext context = RequestLogContext.current();
+        if (context != null && context.capturing()) {
+            context.statement(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        StatementInspectors.register(hibernateProperties, this);
+    }
+}
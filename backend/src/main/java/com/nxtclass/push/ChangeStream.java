@@ -0,0 +1,291 @@
+package com.nxtclass.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nxtclass.entity.Announcement;
+import com.nxtclass.entity.Assignment;
+import com.nxtclass.event.EntityChangeEvent;
+import com.nxtclass.repository.AnnouncementRepository;
+import com.nxtclass.repository.AssignmentRepository;
+import com.nxtclass.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed announcement and assignment changes to open {@code /api/stream} connections.
+ * <p>
+ * Streams are async requests, so an idle connection holds no thread; a small dispatcher pool
+ * does all the writing, with non-blocking writes, so a client that stops reading cannot tie up a
+ * dispatcher thread. Each client has a bounded queue: a client that falls that far behind, or
+ * whose socket accepts nothing for {@code app.push.write-timeout}, is disconnected rather than
+ * buffered without limit, and resumes from the replay buffer through
+ * {@code Last-Event-ID} when it reconnects. A resume that is older than the buffer, or from
+ * another node or boot, gets a {@code reset} event telling the client to reload. A stream only
+ * receives the changes of the organization it was opened for.
+ */
+@Component
+public class ChangeStream implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ChangeStream.class);
+
+    private static final Map<Class<?>, String> STREAMED_TYPES = Map.of(
+            Announcement.class, "announcement",
+            Assignment.class, "assignment");
+
+    private final AnnouncementRepository announcementRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final ObjectMapper objectMapper;
+    private final Set<PushClient> clients = ConcurrentHashMap.newKeySet();
+    private final ArrayDeque<PushEvent> replay;
+    private final int replayCapacity;
+    private final int clientQueueCapacity;
+    private final Duration connectionTimeout;
+    private final Duration writeTimeout;
+    private final ExecutorService dispatcher;
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final Counter disconnectedSlow;
+    private long counter;
+
+    public ChangeStream(AnnouncementRepository announcementRepository,
+                        AssignmentRepository assignmentRepository,
+                        ObjectMapper objectMapper,
+                        MeterRegistry registry,
+                        @Value("${app.push.replay-capacity:1024}") int replayCapacity,
+                        @Value("${app.push.client-queue-capacity:256}") int clientQueueCapacity,
+                        @Value("${app.push.connection-timeout:30m}") Duration connectionTimeout,
+                        @Value("${app.push.write-timeout:30s}") Duration writeTimeout,
+                        @Value("${app.push.dispatch-threads:4}") int dispatchThreads) {
+        this.announcementRepository = announcementRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.objectMapper = objectMapper;
+        this.replayCapacity = replayCapacity;
+        this.replay = new ArrayDeque<>(replayCapacity);
+        this.clientQueueCapacity = clientQueueCapacity;
+        this.connectionTimeout = connectionTimeout;
+        this.writeTimeout = writeTimeout;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "push-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("push.clients", clients, Set::size)
+                .description("Open server-sent event streams")
+                .register(registry);
+        this.disconnectedSlow = Counter.builder("push.disconnected.slow")
+                .description("Streams closed because the client could not keep up")
+                .register(registry);
+    }
+
+    /**
+     * Opens a stream for the current tenant, first replaying the buffered events after
+     * {@code lastEventId} (if any). The request is left in async mode; the stream is written by
+     * the dispatcher until it is closed.
+     */
+    public void subscribe(String lastEventId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        // commit the headers now so the client sees the stream open before the first event
+        response.flushBuffer();
+        AsyncContext async = request.startAsync();
+        async.setTimeout(connectionTimeout.toMillis());
+        PushClient client = new PushClient(async, TenantContext.current(), clientQueueCapacity);
+        async.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                clients.remove(client);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                remove(client);
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                remove(client);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        synchronized (replay) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<PushEvent> missed = missedSince(lastEventId);
+                if (missed == null) {
+                    client.offer(new PushEvent(currentId(), counter, "reset", "{}", null));
+                } else {
+                    missed.stream().filter(event -> event.visibleTo(client.tenantId())).forEach(client::offer);
+                }
+            }
+            // registered under the same lock as the replay snapshot: nothing is missed or doubled
+            clients.add(client);
+        }
+        // the first drain runs from the container's initial onWritePossible
+        client.listen(this::schedule, this::remove);
+    }
+
+    /**
+     * @return the buffered events after {@code lastEventId}, or null if they cannot all be replayed
+     */
+    private List<PushEvent> missedSince(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(bootId)) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldest = replay.isEmpty() ? counter + 1 : replay.peekFirst().counter();
+        if (last < oldest - 1 || last > counter) {
+            return null;
+        }
+        List<PushEvent> missed = new ArrayList<>();
+        for (PushEvent event : replay) {
+            if (event.counter() > last) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    private String currentId() {
+        return bootId + "-" + counter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        String type = STREAMED_TYPES.get(event.entityType());
+        if (type == null) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload(event));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} change for push", type, e);
+            return;
+        }
+        String name = type + "." + event.changeType().name().toLowerCase(Locale.ROOT);
+        // serialized once, shared by every client
+        synchronized (replay) {
+            counter++;
+            PushEvent pushEvent = new PushEvent(currentId(), counter, name, data, event.tenantId());
+            if (replay.size() == replayCapacity) {
+                replay.removeFirst();
+            }
+            replay.addLast(pushEvent);
+            for (PushClient client : clients) {
+                if (pushEvent.visibleTo(client.tenantId())) {
+                    enqueue(client, pushEvent);
+                }
+            }
+        }
+    }
+
+    private Map<String, Object> payload(EntityChangeEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("entityType", event.entityType().getSimpleName());
+        payload.put("identifier", event.identifier());
+        payload.put("changeType", event.changeType());
+        if (event.changeType() != EntityChangeEvent.ChangeType.DELETED) {
+            Long id = (Long) event.identifier();
+            Object current = event.entityType() == Announcement.class
+                    ? announcementRepository.findById(id).orElse(null)
+                    : assignmentRepository.findById(id).orElse(null);
+            payload.put("data", current);
+        }
+        return payload;
+    }
+
+    /**
+     * Queues a heartbeat for every stream and disconnects the ones whose socket has accepted
+     * nothing for the write timeout.
+     */
+    @Scheduled(fixedRateString = "${app.push.heartbeat-interval:15s}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (PushClient client : clients) {
+            if (client.stalledNanos(now) > writeTimeout.toNanos()) {
+                disconnectedSlow.increment();
+                remove(client);
+            } else {
+                enqueue(client, PushClient.HEARTBEAT);
+            }
+        }
+    }
+
+    private void enqueue(PushClient client, Object event) {
+        if (client.offer(event)) {
+            schedule(client);
+        } else {
+            disconnectedSlow.increment();
+            remove(client);
+        }
+    }
+
+    private void schedule(PushClient client) {
+        if (!client.isClosed() && client.tryClaim()) {
+            dispatcher.execute(() -> drain(client));
+        }
+    }
+
+    private void drain(PushClient client) {
+        try {
+            if (client.drain()) {
+                schedule(client);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // client went away mid-write
+            remove(client);
+        }
+    }
+
+    private void remove(PushClient client) {
+        if (clients.remove(client)) {
+            client.close();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        clients.forEach(PushClient::close);
+        clients.clear();
+        dispatcher.shutdownNow();
+    }
+}
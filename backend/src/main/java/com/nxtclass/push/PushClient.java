@@ -0,0 +1,170 @@
+package com.nxtclass.push;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One open stream. Events are queued here and written by the shared dispatcher, never by the
+ * thread that committed the change; at most one dispatcher thread drains a client at a time.
+ * <p>
+ * The stream is in non-blocking mode: a write only happens while the container reports the
+ * socket ready, so a client that stops reading never holds a dispatcher thread. Draining stops
+ * instead, and the container calls back once the client has taken the pending bytes.
+ */
+class PushClient {
+
+    private static final byte[] HEARTBEAT_FRAME = ": heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final AsyncContext async;
+    private final ServletOutputStream out;
+    private final Long tenantId;
+    private final ArrayDeque<Object> queue;
+    private final int capacity;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile boolean closed;
+    /** Set by the container's write callback; tells a drain that is just finishing to run again. */
+    private volatile boolean writable;
+    /** When the socket last refused more data, in nanos; 0 while it keeps up. */
+    private volatile long stalledSince;
+    private boolean unflushed;
+
+    static final Object HEARTBEAT = new Object();
+
+    PushClient(AsyncContext async, Long tenantId, int capacity) throws IOException {
+        this.async = async;
+        this.out = async.getResponse().getOutputStream();
+        this.tenantId = tenantId;
+        this.capacity = capacity;
+        this.queue = new ArrayDeque<>(Math.min(capacity, 64));
+    }
+
+    /**
+     * Switches the stream to non-blocking mode. The container calls {@code onWritable} once the
+     * request thread returns and again whenever a stalled socket drains.
+     */
+    void listen(Consumer<PushClient> onWritable, Consumer<PushClient> onError) {
+        out.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() {
+                writable = true;
+                onWritable.accept(PushClient.this);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                onError.accept(PushClient.this);
+            }
+        });
+    }
+
+    Long tenantId() {
+        return tenantId;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return how long the socket has been refusing data, in nanos; 0 if it is keeping up
+     */
+    long stalledNanos(long now) {
+        long since = stalledSince;
+        return since == 0 ? 0 : now - since;
+    }
+
+    /**
+     * @return false if the client is too slow and its queue is full
+     */
+    synchronized boolean offer(Object event) {
+        if (queue.size() >= capacity) {
+            return false;
+        }
+        queue.add(event);
+        return true;
+    }
+
+    private synchronized Object poll() {
+        return queue.poll();
+    }
+
+    private synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Claims the client for draining; false if another dispatcher thread already has it.
+     */
+    boolean tryClaim() {
+        return draining.compareAndSet(false, true);
+    }
+
+    /**
+     * Writes queued events while the socket accepts them. Returns true if the client needs to be
+     * scheduled again: more events arrived, or the socket became writable, after the claim was
+     * released.
+     */
+    boolean drain() throws IOException {
+        writable = false;
+        boolean ready = true;
+        try {
+            while (!closed) {
+                if (!out.isReady()) {
+                    // isReady() == false guarantees a later onWritePossible
+                    ready = false;
+                    if (stalledSince == 0) {
+                        stalledSince = System.nanoTime();
+                    }
+                    break;
+                }
+                stalledSince = 0;
+                Object next = poll();
+                if (next != null) {
+                    out.write(frame(next));
+                    unflushed = true;
+                } else if (unflushed) {
+                    out.flush();
+                    unflushed = false;
+                } else {
+                    break;
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+        return !closed && (writable || (ready && !isEmpty()));
+    }
+
+    void close() {
+        closed = true;
+        if (completed.compareAndSet(false, true)) {
+            try {
+                async.complete();
+            } catch (IllegalStateException alreadyCompleted) {
+                // the container completed it first (timeout, client gone)
+            }
+        }
+    }
+
+    private static byte[] frame(Object next) {
+        if (next == HEARTBEAT) {
+            return HEARTBEAT_FRAME;
+        }
+        PushEvent event = (PushEvent) next;
+        StringBuilder sb = new StringBuilder()
+                .append("id:").append(event.id()).append('\n')
+                .append("event:").append(event.name()).append('\n');
+        for (String line : event.data().split("\n", -1)) {
+            sb.append("data:").append(line).append('\n');
+        }
+        return sb.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,13 @@
+package com.nxtclass.push;
+
+/**
+ * One server-sent event. {@code id} is {@code <boot>-<counter>}: the counter orders events on this
+ * node and the boot id tells a resume against a restarted (or different) node apart from a gap.
+ * {@code tenantId} is the organization the event belongs to; null for control events sent to anyone.
+ */
+record PushEvent(String id, long counter, String name, String data, Long tenantId) {
+
+    boolean visibleTo(Long tenant) {
+        return tenantId == null || tenantId.equals(tenant);
+    }
+}
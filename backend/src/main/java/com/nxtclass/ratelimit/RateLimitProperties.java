@@ -0,0 +1,77 @@
+package com.nxtclass.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Upper bound on tracked buckets; beyond it new keys share one overflow bucket per route class. */
+    private int maxBuckets = 100_000;
+
+    /** Buckets that have been full this long are dropped by the sweep. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private List<String> bulkPaths = new ArrayList<>(List.of(
+            "/api/assignments/*/publish", "/api/sync", "/api/announcements/archive"));
+
+    private RouteBudget auth = new RouteBudget(new Budget(10, 0.2), null);
+    private RouteBudget read = new RouteBudget(new Budget(100, 20), new Budget(2000, 400));
+    private RouteBudget write = new RouteBudget(new Budget(30, 5), new Budget(500, 100));
+    private RouteBudget bulk = new RouteBudget(new Budget(5, 0.5), new Budget(50, 5));
+
+    RouteBudget budget(RouteClass route) {
+        return switch (route) {
+            case AUTH -> auth;
+            case READ -> read;
+            case WRITE -> write;
+            case BULK -> bulk;
+        };
+    }
+
+    /**
+     * Budgets of one route class. {@code user} applies to each user (each client address for
+     * {@code auth}), {@code tenant} to all users of an organization together; either may be unset.
+     */
+    @Getter
+    @Setter
+    public static class RouteBudget {
+        private Budget user;
+        private Budget tenant;
+
+        public RouteBudget() {
+        }
+
+        RouteBudget(Budget user, Budget tenant) {
+            this.user = user;
+            this.tenant = tenant;
+        }
+    }
+
+    /**
+     * Up to {@code capacity} requests at once, refilled at {@code refillPerSecond}.
+     */
+    @Getter
+    @Setter
+    public static class Budget {
+        private int capacity;
+        private double refillPerSecond;
+
+        public Budget() {
+        }
+
+        Budget(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
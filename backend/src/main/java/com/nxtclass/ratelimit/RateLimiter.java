@@ -0,0 +1,135 @@
+package com.nxtclass.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the token buckets, one per route class and user and one per route class and tenant.
+ * A request must get a token from both; the user's bucket is asked first so one noisy user is
+ * stopped before it drains the organization's budget. The map is bounded: idle buckets are swept,
+ * and when it is still full new keys share an overflow bucket per route class and scope.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiter {
+
+    private static final long MIN_INLINE_SWEEP_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    enum Scope {
+        USER, TENANT
+    }
+
+    /**
+     * @param retryAfterNanos 0 when admitted
+     * @param scope           the budget that rejected the request, null when admitted
+     */
+    record Decision(long retryAfterNanos, Scope scope) {
+        static final Decision ADMITTED = new Decision(0, null);
+
+        boolean admitted() {
+            return retryAfterNanos == 0;
+        }
+    }
+
+    private final RateLimitProperties properties;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> overflow = new ConcurrentHashMap<>();
+    private final Map<RouteClass, Map<Scope, Counter>> rejected = new EnumMap<>(RouteClass.class);
+    private final Counter overflowed;
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        for (RouteClass route : RouteClass.values()) {
+            Map<Scope, Counter> counters = new EnumMap<>(Scope.class);
+            for (Scope scope : Scope.values()) {
+                counters.put(scope, Counter.builder("ratelimit.rejected")
+                        .description("Requests rejected with 429 by the rate limiter")
+                        .tags("route", route.tag(), "scope", scope.name().toLowerCase(Locale.ROOT))
+                        .register(registry));
+            }
+            rejected.put(route, counters);
+        }
+        this.overflowed = Counter.builder("ratelimit.overflow")
+                .description("Requests limited through a shared overflow bucket because the bucket map was full")
+                .register(registry);
+        Gauge.builder("ratelimit.buckets", buckets, Map::size)
+                .description("Tracked rate-limit buckets")
+                .register(registry);
+    }
+
+    /**
+     * @param user   the user, or the client address for anonymous requests
+     * @param tenant the caller's organization, null for anonymous requests
+     */
+    Decision acquire(RouteClass route, String user, Long tenant) {
+        return acquire(route, user, tenant, System.nanoTime());
+    }
+
+    Decision acquire(RouteClass route, String user, Long tenant, long now) {
+        RateLimitProperties.RouteBudget budget = properties.budget(route);
+        if (budget.getUser() != null) {
+            long wait = bucket(route, Scope.USER, user, budget.getUser(), now).tryAcquire(now);
+            if (wait > 0) {
+                return reject(route, Scope.USER, wait);
+            }
+        }
+        if (budget.getTenant() != null && tenant != null) {
+            long wait = bucket(route, Scope.TENANT, tenant.toString(), budget.getTenant(), now).tryAcquire(now);
+            if (wait > 0) {
+                return reject(route, Scope.TENANT, wait);
+            }
+        }
+        return Decision.ADMITTED;
+    }
+
+    private Decision reject(RouteClass route, Scope scope, long wait) {
+        rejected.get(route).get(scope).increment();
+        return new Decision(wait, scope);
+    }
+
+    private TokenBucket bucket(RouteClass route, Scope scope, String key, RateLimitProperties.Budget budget, long now) {
+        String fullKey = route.name() + '|' + scope.name() + '|' + key;
+        TokenBucket bucket = buckets.get(fullKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxBuckets()) {
+            // at most one inline sweep a second, so a flood of new keys cannot turn every request into a scan
+            long last = lastSweep.get();
+            if (now - last > MIN_INLINE_SWEEP_NANOS && lastSweep.compareAndSet(last, now)) {
+                evictIdle(now);
+            }
+            if (buckets.size() >= properties.getMaxBuckets()) {
+                overflowed.increment();
+                return overflow.computeIfAbsent(route.name() + '|' + scope.name(), k -> new TokenBucket(budget, now));
+            }
+        }
+        return buckets.computeIfAbsent(fullKey, k -> new TokenBucket(budget, now));
+    }
+
+    /**
+     * Drops buckets that have been full for the idle timeout. A request racing the removal may take
+     * its token from the dropped bucket, which only lets that one request through for free.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval:1m}")
+    public void evictIdle() {
+        evictIdle(System.nanoTime());
+    }
+
+    void evictIdle(long now) {
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        buckets.values().removeIf(bucket -> bucket.idleSince(now, idleNanos));
+    }
+}
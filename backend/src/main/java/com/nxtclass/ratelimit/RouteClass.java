@@ -0,0 +1,40 @@
+package com.nxtclass.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Groups of routes that share a rate-limit budget.
+ */
+public enum RouteClass {
+    /** Login: keyed by client address, since there is no user yet. */
+    AUTH,
+    READ,
+    WRITE,
+    /** Requests that fan out or return large pages ({@code app.rate-limit.bulk-paths}). */
+    BULK;
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    static RouteClass of(HttpServletRequest request, List<String> bulkPaths) {
+        String path = request.getServletPath();
+        if (path.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        for (String pattern : bulkPaths) {
+            if (MATCHER.match(pattern, path)) {
+                return BULK;
+            }
+        }
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+                ? READ : WRITE;
+    }
+
+    String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
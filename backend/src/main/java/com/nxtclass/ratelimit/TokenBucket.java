@@ -0,0 +1,48 @@
+package com.nxtclass.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of a token count and a refill timestamp it keeps a single
+ * value, the {@link System#nanoTime()} at which the bucket will be full again (the GCRA form of a
+ * token bucket), so taking a token is one compare-and-set. A bucket whose full-at time has passed
+ * is indistinguishable from a new one, which is what makes idle buckets safe to evict.
+ */
+final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(RateLimitProperties.Budget budget, long now) {
+        this.nanosPerToken = Math.max(1, (long) (1_000_000_000L / budget.getRefillPerSecond()));
+        this.burstNanos = nanosPerToken * budget.getCapacity();
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + nanosPerToken;
+            long waited = next - now - burstNanos;
+            if (waited > 0) {
+                return waited;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * True once the bucket has been full for at least {@code idleNanos}.
+     */
+    boolean idleSince(long now, long idleNanos) {
+        return now - fullAt.get() > idleNanos;
+    }
+}
@@ -0,0 +1,48 @@
+package com.nxtclass.repository;
+
+import com.nxtclass.dto.SubmissionDTO;
+import com.nxtclass.entity.AssignmentStatus;
+import com.nxtclass.entity.AssignmentSubmission;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AssignmentSubmissionRepo extends JpaRepository<AssignmentSubmission, Long> {
+
+    // idx_submissions_student_status
+    @Query("SELECT new com.nxtclass.dto.SubmissionDTO(s.identifier, s.assignmentId, a.title, a.subject, a.dueDate, "
+            + "s.status, s.score, a.totalPoints) "
+            + "FROM AssignmentSubmission s JOIN Assignment a ON a.id = s.assignmentId "
+            + "WHERE s.studentIdentifier = :studentIdentifier AND s.status = :status ORDER BY a.dueDate")
+    List<SubmissionDTO> findForStudent(@Param("studentIdentifier") Long studentIdentifier,
+                                       @Param("status") AssignmentStatus status);
+
+    // idx_submissions_assignment_status: index-only range over one assignment's rows
+    @Query("SELECT s.status, COUNT(s) FROM AssignmentSubmission s WHERE s.assignmentId = :assignmentId GROUP BY s.status")
+    List<Object[]> countByStatusForAssignment(@Param("assignmentId") Long assignmentId);
+
+    @Query("SELECT s.studentIdentifier FROM AssignmentSubmission s WHERE s.assignmentId = :assignmentId")
+    List<Long> findStudentIdentifiersByAssignmentId(@Param("assignmentId") Long assignmentId);
+
+    // a regrade reads the previous score to withdraw it from the gradebook: serialize concurrent grades
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AssignmentSubmission s WHERE s.identifier = :identifier")
+    Optional<AssignmentSubmission> findForUpdate(@Param("identifier") Long identifier);
+
+    // idx_submissions_assignment_status; student, score and the grade and section it was counted in
+    @Query("SELECT s.studentIdentifier, s.score, s.gradedGradeIdentifier, s.gradedSectionIdentifier "
+            + "FROM AssignmentSubmission s "
+            + "WHERE s.assignmentId = :assignmentId AND s.status = com.nxtclass.entity.AssignmentStatus.GRADED "
+            + "AND s.score IS NOT NULL")
+    List<Object[]> findGradedForAssignment(@Param("assignmentId") Long assignmentId);
+
+    @Modifying
+    @Query("DELETE FROM AssignmentSubmission s WHERE s.assignmentId = :assignmentId")
+    int deleteByAssignmentId(@Param("assignmentId") Long assignmentId);
+}
@@ -0,0 +1,31 @@
+package com.nxtclass.repository;
+
+import com.nxtclass.entity.ChangeJournalEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChangeJournalRepo extends JpaRepository<ChangeJournalEntry, Long> {
+
+    // primary key range scan
+    List<ChangeJournalEntry> findBySeqGreaterThanOrderBySeq(Long seq, Pageable pageable);
+
+    @Query("SELECT MIN(e.seq) FROM ChangeJournalEntry e")
+    Long findOldestSeq();
+
+    @Query("SELECT MAX(e.seq) FROM ChangeJournalEntry e")
+    Long findLatestSeq();
+
+    // idx_change_journal_changed_at
+    @Query("SELECT MAX(e.seq) FROM ChangeJournalEntry e WHERE e.changedAt < :threshold")
+    Long findLatestSeqBefore(@Param("threshold") LocalDateTime threshold);
+
+    @Modifying
+    @Query("DELETE FROM ChangeJournalEntry e WHERE e.seq <= :seq")
+    int deleteUpTo(@Param("seq") Long seq);
+}
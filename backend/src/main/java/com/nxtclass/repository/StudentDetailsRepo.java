@@ -2,6 +2,18 @@ package com.nxtclass.repository;
 
 import com.nxtclass.entity.StudentDetails;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface StudentDetailsRepo extends JpaRepository<StudentDetails, Long> {
+    Optional<StudentDetails> findFirstByEmail(String email);
+
+    // idx_student_details_grade_section; section is optional (whole grade when null)
+    @Query("SELECT s.identifier FROM StudentDetails s WHERE s.gradeIdentifier = :gradeIdentifier "
+            + "AND (:sectionIdentifier IS NULL OR s.sectionIdentifier = :sectionIdentifier)")
+    List<Long> findIdentifiersByGradeAndSection(@Param("gradeIdentifier") Long gradeIdentifier,
+                                                @Param("sectionIdentifier") Long sectionIdentifier);
 }
@@ -4,6 +4,9 @@ import com.nxtclass.entity.TeacherDetails;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface TeacherDetailsRepo extends JpaRepository<TeacherDetails, Long> {
+    Optional<TeacherDetails> findFirstByEmail(String email);
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.nxtclass.repository;
 
 import com.nxtclass.entity.TeacherGradeSection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface TeacherGradeSectionRepo extends JpaRepository<TeacherGradeSection, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TeacherGradeSection> findByTeacherIdentifier(Long teacherIdentifier);
     void deleteByTeacherIdentifier(Long teacherIdentifier);
 }
@@ -3,18 +3,37 @@ package com.nxtclass.security;
 import com.nxtclass.entity.User;
 import com.nxtclass.entity.UserStatus;
 import com.nxtclass.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.core.userdetails.User.UserBuilder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
+    /**
+     * Granted to the accounts in {@code app.platform.operators}: process-wide operations such as
+     * profiling, which see every tenant. Deliberately not a {@code ROLE_}, so it is never read as a
+     * {@link com.nxtclass.entity.UserRole}.
+     */
+    public static final String PLATFORM_OPERATOR = "PLATFORM_OPERATOR";
+
     private final UserRepository userRepository;
+    private final Set<String> platformOperators;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${app.platform.operators:}") List<String> platformOperators) {
         this.userRepository = userRepository;
+        this.platformOperators = platformOperators.stream()
+                .map(email -> email.trim().toLowerCase(Locale.ROOT))
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     @Override
@@ -24,10 +43,13 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         boolean enabled = user.getStatus() == UserStatus.ACTIVE;
 
+        String role = "ROLE_" + user.getRole().name();
         UserBuilder builder = org.springframework.security.core.userdetails.User.builder()
                 .username(user.getEmail())
                 .password(user.getPassword())
-                .authorities("ROLE_" + user.getRole().name())
+                .authorities(platformOperators.contains(user.getEmail().toLowerCase(Locale.ROOT))
+                        ? new String[]{role, PLATFORM_OPERATOR}
+                        : new String[]{role})
                 .disabled(!enabled);
 
         return builder.build();
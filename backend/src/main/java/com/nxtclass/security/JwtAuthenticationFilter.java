@@ -1,5 +1,8 @@
 package com.nxtclass.security;
 
+import com.nxtclass.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,15 +16,32 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authenticates bearer tokens and binds the token's organization to {@link TenantContext} for the
+ * rest of the request. Tokens without a tenant claim are treated as invalid rather than as root.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final Timer validTokens;
+    private final Timer invalidTokens;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService, MeterRegistry registry) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.validTokens = verificationTimer(registry, "valid");
+        this.invalidTokens = verificationTimer(registry, "invalid");
+    }
+
+    private static Timer verificationTimer(MeterRegistry registry, String result) {
+        return Timer.builder("jwt.verification")
+                .description("Bearer token parsing, signature check and user lookup")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(registry);
     }
 
     @Override
@@ -39,18 +59,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String jwt = authHeader.substring(7);
         String username = null;
+        long started = System.nanoTime();
 
         try {
             username = jwtService.extractUsername(jwt);
         } catch (Exception ex) {
+            invalidTokens.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
             filterChain.doFilter(request, response);
             return;
         }
 
+        Long tenantId = null;
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            tenantId = jwtService.extractTenant(jwt);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (tenantId != null && jwtService.isTokenValid(jwt, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -58,9 +82,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                validTokens.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            } else {
+                tenantId = null;
+                invalidTokens.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
             }
         }
 
-        filterChain.doFilter(request, response);
+        if (tenantId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        TenantContext.set(tenantId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
     }
 }
@@ -19,6 +19,8 @@ import java.util.function.Function;
 
 @Service
 public class JwtService {
+    static final String TENANT_CLAIM = "tenant";
+
     private final SecretKey signingKey;
     private final long jwtExpirationMillis;
 
@@ -39,7 +41,14 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * The organization the token was issued for; null for tokens issued before tenants existed.
+     */
+    public Long extractTenant(String token) {
+        return extractClaim(token, claims -> claims.get(TENANT_CLAIM, Long.class));
+    }
+
+    public String generateToken(UserDetails userDetails, Long tenantId) {
         Instant now = Instant.now();
         Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
         List<String> roles = authorities.stream().map(GrantedAuthority::getAuthority).toList();
@@ -47,6 +56,7 @@ public class JwtService {
         return Jwts.builder()
                 .setSubject(userDetails.getUsername())
                 .claim("roles", roles)
+                .claim(TENANT_CLAIM, tenantId)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(now.plusMillis(jwtExpirationMillis)))
                 .signWith(signingKey, SignatureAlgorithm.HS256)
@@ -1,5 +1,7 @@
 package com.nxtclass.security;
 
+import com.nxtclass.ratelimit.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -25,15 +27,18 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final JwtAuthenticationEntryPoint authenticationEntryPoint;
     private final UserDetailsService userDetailsService;
 
     public SecurityConfig(
             JwtAuthenticationFilter jwtAuthenticationFilter,
+            RateLimitFilter rateLimitFilter,
             JwtAuthenticationEntryPoint authenticationEntryPoint,
             UserDetailsService userDetailsService
     ) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
         this.authenticationEntryPoint = authenticationEntryPoint;
         this.userDetailsService = userDetailsService;
     }
@@ -46,13 +51,24 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(authenticationEntryPoint))
                 .authorizeHttpRequests(auth -> auth
+                        // the original request of an async /api/stream response was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
+                        // recordings cover the whole process, so every tenant: platform operators only
+                        .requestMatchers("/actuator/jfr/**").hasAuthority(CustomUserDetailsService.PLATFORM_OPERATOR)
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .requestMatchers(HttpMethod.PUT, "/api/submissions/*/grade").hasAnyRole("ORGADMIN", "TEACHER")
+                        .requestMatchers("/api/gradebook/organization", "/api/gradebook/rebuild").hasRole("ORGADMIN")
+                        // GradebookAPI further limits teachers to the classes they are linked to
+                        .requestMatchers("/api/gradebook/students/**", "/api/gradebook/sections/**",
+                                "/api/gradebook/grades/**").hasAnyRole("ORGADMIN", "TEACHER")
                         .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // after the token is read, so limits are per user and tenant
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,163 @@
+package com.nxtclass.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes {@link SeedTable}s in fixed-size chunks on a private pool, one connection per chunk.
+ * On Postgres each chunk is a single {@code COPY ... FROM STDIN}; elsewhere it is one JDBC batch
+ * (multi-row inserts with {@code rewriteBatchedStatements}). Chunk {@code n} of a table always
+ * draws from the same random stream, so the data does not depend on thread scheduling.
+ */
+class BulkLoader implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(BulkLoader.class);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final int chunkSize;
+    private final long seed;
+    private final ExecutorService executor;
+    private final PostgresCopy copy;
+
+    BulkLoader(DataSource dataSource, JdbcTemplate jdbc, int chunkSize, int threads, long seed, boolean postgres) {
+        this.dataSource = dataSource;
+        this.jdbc = jdbc;
+        this.chunkSize = chunkSize;
+        this.seed = seed;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "seed-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.copy = postgres ? PostgresCopy.load() : null;
+        log.info("Seeding with {} threads, {} rows per chunk, {}", threads, chunkSize,
+                copy != null ? "COPY" : "batched INSERT");
+    }
+
+    void load(SeedTable table) {
+        long started = System.nanoTime();
+        long chunks = (table.rows() + chunkSize - 1) / chunkSize;
+        List<Future<?>> futures = new ArrayList<>();
+        for (long chunk = 0; chunk < chunks; chunk++) {
+            long from = chunk * chunkSize;
+            long to = Math.min(from + chunkSize, table.rows());
+            SplittableRandom random = new SplittableRandom(mix(seed, table.name().hashCode(), chunk));
+            futures.add(executor.submit(() -> {
+                writeChunk(table, from, to, random);
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Seeding " + table.name() + " interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Seeding " + table.name() + " failed", e.getCause());
+        }
+        long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Seeded {} rows into {} in {} ms ({} rows/s)", table.rows(), table.name(), millis,
+                table.rows() * 1000 / millis);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void writeChunk(SeedTable table, long from, long to, SplittableRandom random) throws SQLException {
+        if (copy != null) {
+            StringBuilder csv = new StringBuilder((int) (to - from) * 96);
+            for (long i = from; i < to; i++) {
+                appendCsv(csv, table.generator().row(i, random));
+            }
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                copy.copyIn(connection, table.copySql(), csv.toString());
+            }
+        } else {
+            List<Object[]> rows = new ArrayList<>((int) (to - from));
+            for (long i = from; i < to; i++) {
+                rows.add(table.generator().row(i, random));
+            }
+            jdbc.batchUpdate(table.insertSql(), rows);
+        }
+    }
+
+    private static void appendCsv(StringBuilder csv, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            Object value = row[i];
+            if (value instanceof String text) {
+                csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else if (value != null) {
+                csv.append(value);
+            }
+            // null stays an unquoted empty field, which COPY csv reads as NULL
+        }
+        csv.append('\n');
+    }
+
+    private static long mix(long seed, int table, long chunk) {
+        long z = seed * 0x9E3779B97F4A7C15L + table * 0xBF58476D1CE4E5B9L + chunk;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * PgJDBC's CopyManager, looked up reflectively: the Postgres driver is only on the classpath
+     * in the flyway build profile.
+     */
+    private record PostgresCopy(Class<?> baseConnection, Constructor<?> copyManager, Method copyIn) {
+
+        static PostgresCopy load() {
+            try {
+                Class<?> baseConnection = Class.forName("org.postgresql.core.BaseConnection");
+                Class<?> copyManager = Class.forName("org.postgresql.copy.CopyManager");
+                return new PostgresCopy(baseConnection, copyManager.getConstructor(baseConnection),
+                        copyManager.getMethod("copyIn", String.class, java.io.Reader.class));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Postgres driver without CopyManager on the classpath", e);
+            }
+        }
+
+        void copyIn(Connection connection, String sql, String csv) throws SQLException {
+            try {
+                Object manager = copyManager.newInstance(connection.unwrap(baseConnection));
+                copyIn.invoke(manager, sql, new StringReader(csv));
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
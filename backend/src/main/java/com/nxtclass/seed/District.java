@@ -0,0 +1,229 @@
+package com.nxtclass.seed;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Layout of the synthetic district: organizations, each with the same grade ladder and sections,
+ * teachers spread over the organizations and students spread evenly over every section. Each
+ * organization is a tenant and every row carries its {@code tenant_id}. Every
+ * identifier is {@code idBase} plus a fixed per-entity offset plus the row index, so two runs with
+ * the same volumes produce the same rows. {@code idBase} is far above the {@code identifier_blocks} row
+ * {@code IdentityGeneratorClass} draws from, so ids the application hands out never reach seeded rows.
+ */
+class District {
+
+    private static final long SECTION_OFFSET = 100_000_000L;
+    private static final long TEACHER_OFFSET = 200_000_000L;
+    private static final long STUDENT_OFFSET = 300_000_000L;
+    private static final long LINK_OFFSET = 400_000_000L;
+    private static final long USER_OFFSET = 500_000_000L;
+    private static final long ORGANIZATION_OFFSET = 600_000_000L;
+    private static final int LINKS_PER_TEACHER = 3;
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Diya", "Ishaan", "Ananya", "Kabir", "Meera", "Rohan",
+            "Saanvi", "Vihaan", "Aditi", "Arjun", "Kavya", "Reyansh", "Myra", "Dev", "Tara"};
+    private static final String[] LAST_NAMES = {"Sharma", "Iyer", "Patel", "Reddy", "Nair", "Gupta", "Khan",
+            "Das", "Menon", "Joshi", "Rao", "Singh", "Bose", "Pillai", "Mehta", "Verma"};
+    private static final String[] SUBJECTS = {"Mathematics", "Science", "English", "History", "Geography",
+            "Computer Science", "Physics", "Chemistry", "Biology", "Hindi"};
+    private static final String[] STATES = {"Karnataka", "Maharashtra", "Tamil Nadu", "Kerala", "Delhi", "Gujarat"};
+
+    private final SeedVolumes volumes;
+    private final long idBase;
+    private final LocalDate today;
+    private final Timestamp createdAt;
+    private final String passwordHash;
+
+    District(SeedVolumes volumes, long idBase, LocalDate today, String passwordHash) {
+        this.volumes = volumes;
+        this.idBase = idBase;
+        this.today = today;
+        this.createdAt = Timestamp.valueOf(today.atStartOfDay());
+        this.passwordHash = passwordHash;
+    }
+
+    long gradeCount() {
+        return (long) volumes.organizations() * volumes.gradesPerOrganization();
+    }
+
+    long sectionCount() {
+        return gradeCount() * volumes.sectionsPerGrade();
+    }
+
+    long gradeId(long grade) {
+        return idBase + grade;
+    }
+
+    /** Grades and sections first (sections reference grades); everything else only holds identifiers. */
+    List<SeedTable> structure() {
+        return List.of(organizations(), grades(), sections());
+    }
+
+    List<SeedTable> people() {
+        return List.of(teachers(), teacherLinks(), students(), users());
+    }
+
+    List<SeedTable> activity() {
+        return List.of(assignments(), announcements());
+    }
+
+    private SeedTable organizations() {
+        return new SeedTable("organizations", List.of("identifier", "name", "created_at"), volumes.organizations(),
+                (i, random) -> new Object[]{tenantId(i), organization(i), createdAt});
+    }
+
+    private SeedTable grades() {
+        return new SeedTable("grade", List.of("identifier", "grade", "description", "tenant_id"), gradeCount(),
+                (i, random) -> new Object[]{gradeId(i),
+                        "Grade " + (i % volumes.gradesPerOrganization() + 1),
+                        organization(i / volumes.gradesPerOrganization()),
+                        tenantId(gradeOrganization(i))});
+    }
+
+    private SeedTable sections() {
+        return new SeedTable("section", List.of("identifier", "name", "grade_id", "tenant_id"), sectionCount(),
+                (i, random) -> new Object[]{idBase + SECTION_OFFSET + i,
+                        String.valueOf((char) ('A' + i % volumes.sectionsPerGrade())),
+                        gradeId(i / volumes.sectionsPerGrade()),
+                        tenantId(gradeOrganization(i / volumes.sectionsPerGrade()))});
+    }
+
+    private SeedTable teachers() {
+        return new SeedTable("teacher_details", List.of("identifier", "first_name", "last_name", "email", "phone_no",
+                "state", "country", "tenant_id"), volumes.teachers(),
+                (i, random) -> new Object[]{idBase + TEACHER_OFFSET + i, pick(FIRST_NAMES, random),
+                        pick(LAST_NAMES, random), teacherEmail(i), phone(random), pick(STATES, random), "India",
+                        tenantId(teacherOrganization(i))});
+    }
+
+    /** Each teacher teaches {@value #LINKS_PER_TEACHER} sections of their own organization. */
+    private SeedTable teacherLinks() {
+        long sectionsPerOrganization = (long) volumes.gradesPerOrganization() * volumes.sectionsPerGrade();
+        return new SeedTable("teacher_grade_section", List.of("identifier", "teacher_identifier", "grade_identifier",
+                "section_identifier", "tenant_id"), volumes.teachers() * LINKS_PER_TEACHER,
+                (i, random) -> {
+                    long teacher = i / LINKS_PER_TEACHER;
+                    long section = teacherOrganization(teacher) * sectionsPerOrganization
+                            + random.nextLong(sectionsPerOrganization);
+                    return new Object[]{idBase + LINK_OFFSET + i, idBase + TEACHER_OFFSET + teacher,
+                            gradeId(section / volumes.sectionsPerGrade()), idBase + SECTION_OFFSET + section,
+                            tenantId(teacherOrganization(teacher))};
+                });
+    }
+
+    private SeedTable students() {
+        return new SeedTable("student_details", List.of("identifier", "first_name", "last_name", "email", "phone_no",
+                "grade_identifier", "section_identifier", "state", "country", "tenant_id"), volumes.students(),
+                (i, random) -> {
+                    long section = i % sectionCount();
+                    return new Object[]{idBase + STUDENT_OFFSET + i, pick(FIRST_NAMES, random), pick(LAST_NAMES, random),
+                            studentEmail(i), phone(random), gradeId(section / volumes.sectionsPerGrade()),
+                            idBase + SECTION_OFFSET + section, pick(STATES, random), "India",
+                            tenantId(studentOrganization(i))};
+                });
+    }
+
+    /** Login accounts: one admin per organization, then every teacher, then every student. */
+    private SeedTable users() {
+        long admins = volumes.organizations();
+        return new SeedTable("users", List.of("identifier", "name", "email", "password", "role", "status",
+                "organization", "created_at", "updated_at", "tenant_id"), admins + volumes.teachers() + volumes.students(),
+                (i, random) -> {
+                    String email;
+                    String role;
+                    long organization;
+                    if (i < admins) {
+                        organization = i;
+                        email = "admin@org" + i + ".seed.nxtclass.com";
+                        role = "ORGADMIN";
+                    } else if (i < admins + volumes.teachers()) {
+                        long teacher = i - admins;
+                        organization = teacherOrganization(teacher);
+                        email = teacherEmail(teacher);
+                        role = "TEACHER";
+                    } else {
+                        long student = i - admins - volumes.teachers();
+                        organization = studentOrganization(student);
+                        email = studentEmail(student);
+                        role = "STUDENT";
+                    }
+                    String status = random.nextInt(100) < 3 ? "INACTIVE" : "ACTIVE";
+                    return new Object[]{idBase + USER_OFFSET + i, pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random),
+                            email, passwordHash, role, status, organization(organization), createdAt, createdAt,
+                            tenantId(organization)};
+                });
+    }
+
+    /** Mostly graded and in the past; about 3% due in the next 60 days, half for a single section. */
+    private SeedTable assignments() {
+        return new SeedTable("assignments", List.of("title", "subject", "due_date", "status", "total_points",
+                "grade_identifier", "section_identifier", "description", "created_at", "updated_at", "tenant_id"),
+                volumes.assignments(),
+                (i, random) -> {
+                    long grade = random.nextLong(gradeCount());
+                    Long section = random.nextBoolean()
+                            ? idBase + SECTION_OFFSET + grade * volumes.sectionsPerGrade() + random.nextInt(volumes.sectionsPerGrade())
+                            : null;
+                    boolean upcoming = random.nextInt(30) == 0;
+                    LocalDate due = upcoming ? today.plusDays(random.nextInt(60)) : today.minusDays(1 + random.nextInt(730));
+                    int roll = random.nextInt(100);
+                    String status = upcoming ? "PENDING" : roll < 10 ? "PENDING" : roll < 25 ? "SUBMITTED" : "GRADED";
+                    String subject = pick(SUBJECTS, random);
+                    return new Object[]{subject + " worksheet " + i, subject, Date.valueOf(due), status, 100,
+                            gradeId(grade), section, "Synthetic assignment " + i, createdAt, createdAt,
+                            tenantId(gradeOrganization(grade))};
+                });
+    }
+
+    private SeedTable announcements() {
+        return new SeedTable("announcements", List.of("title", "content", "author", "date", "created_at", "updated_at",
+                "tenant_id"), volumes.announcements(),
+                (i, random) -> {
+                    long organization = random.nextLong(volumes.organizations());
+                    return new Object[]{"Announcement " + i, "Notice for " + organization(organization) + " families.",
+                            pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random),
+                            Date.valueOf(today.minusDays(random.nextInt(730))), createdAt, createdAt,
+                            tenantId(organization)};
+                });
+    }
+
+    private long tenantId(long organization) {
+        return idBase + ORGANIZATION_OFFSET + organization;
+    }
+
+    private long gradeOrganization(long grade) {
+        return grade / volumes.gradesPerOrganization();
+    }
+
+    private long teacherOrganization(long teacher) {
+        return teacher % volumes.organizations();
+    }
+
+    private long studentOrganization(long student) {
+        return (student % sectionCount()) / ((long) volumes.gradesPerOrganization() * volumes.sectionsPerGrade());
+    }
+
+    private String teacherEmail(long teacher) {
+        return "teacher" + teacher + "@org" + teacherOrganization(teacher) + ".seed.nxtclass.com";
+    }
+
+    private String studentEmail(long student) {
+        return "student" + student + "@org" + studentOrganization(student) + ".seed.nxtclass.com";
+    }
+
+    private static String organization(long index) {
+        return "Seed School " + (index + 1);
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "9" + (100_000_000L + random.nextLong(900_000_000L));
+    }
+}
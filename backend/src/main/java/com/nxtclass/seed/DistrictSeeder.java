@@ -0,0 +1,112 @@
+package com.nxtclass.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Synthetic school district (profile seed): organizations, grades, sections, teachers with their
+ * grade/section links, students with login accounts, assignments and announcements, sized by
+ * {@code app.seed.*}. Rows are generated in parallel and written over COPY on Postgres or JDBC
+ * batches elsewhere; the same {@code app.seed.seed} always produces the same rows.
+ * <p>
+ * Rows go straight to the tables, so they are not in the change journal and cached reads only see
+ * them after their regions expire. Seed before starting the instances that serve traffic.
+ */
+@Component
+@Profile("seed")
+public class DistrictSeeder implements CommandLineRunner {
+    private static final Logger log = LoggerFactory.getLogger(DistrictSeeder.class);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final SeedVolumes volumes;
+    private final long seed;
+    private final long idBase;
+    private final int chunkSize;
+    private final int threads;
+    private final String password;
+    private final boolean exitWhenDone;
+
+    public DistrictSeeder(DataSource dataSource,
+                          JdbcTemplate jdbc,
+                          PasswordEncoder passwordEncoder,
+                          ConfigurableApplicationContext context,
+                          @Value("${app.seed.organizations:20}") int organizations,
+                          @Value("${app.seed.grades-per-organization:12}") int gradesPerOrganization,
+                          @Value("${app.seed.sections-per-grade:4}") int sectionsPerGrade,
+                          @Value("${app.seed.teachers:5000}") long teachers,
+                          @Value("${app.seed.students:100000}") long students,
+                          @Value("${app.seed.assignments:200000}") long assignments,
+                          @Value("${app.seed.announcements:50000}") long announcements,
+                          @Value("${app.seed.seed:42}") long seed,
+                          @Value("${app.seed.id-base:9000000000000}") long idBase,
+                          @Value("${app.seed.chunk-size:10000}") int chunkSize,
+                          @Value("${app.seed.threads:0}") int threads,
+                          @Value("${app.seed.password:Admin@123}") String password,
+                          @Value("${app.seed.exit-when-done:false}") boolean exitWhenDone) {
+        this.dataSource = dataSource;
+        this.jdbc = jdbc;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+        this.volumes = new SeedVolumes(organizations, gradesPerOrganization, sectionsPerGrade,
+                teachers, students, assignments, announcements);
+        this.seed = seed;
+        this.idBase = idBase;
+        this.chunkSize = chunkSize;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.password = password;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(String... args) {
+        District district = new District(volumes, idBase, LocalDate.now(), passwordEncoder.encode(password));
+        Integer existing = jdbc.queryForObject("SELECT COUNT(*) FROM grade WHERE identifier = ?",
+                Integer.class, district.gradeId(0));
+        if (existing != null && existing > 0) {
+            log.info("Synthetic district already present (grade {}), skipping seed", district.gradeId(0));
+        } else {
+            seed(district);
+        }
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private void seed(District district) {
+        String productName = jdbc.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        boolean postgres = "PostgreSQL".equalsIgnoreCase(productName);
+        long started = System.nanoTime();
+
+        try (BulkLoader loader = new BulkLoader(dataSource, jdbc, chunkSize, threads, seed, postgres)) {
+            // structure first: sections carry a foreign key to grade
+            district.structure().forEach(loader::load);
+            district.people().forEach(loader::load);
+            district.activity().forEach(loader::load);
+        }
+        if (postgres) {
+            List.of("organizations", "grade", "section", "teacher_details", "teacher_grade_section", "student_details",
+                    "users", "assignments", "announcements").forEach(table -> jdbc.execute("ANALYZE " + table));
+        }
+
+        long rows = volumes.totalRows(district.gradeCount(), district.sectionCount());
+        long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Seeded synthetic district ({} organizations, {} students): {} rows in {} ms ({} rows/s)",
+                volumes.organizations(), volumes.students(), rows, millis, rows * 1000 / millis);
+    }
+}
@@ -0,0 +1,25 @@
+package com.nxtclass.seed;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * One table to seed: its columns and a generator for row {@code index}. The generator must only
+ * depend on the index and the random it is handed, so chunks can be generated in any order.
+ */
+record SeedTable(String name, List<String> columns, long rows, RowGenerator generator) {
+
+    @FunctionalInterface
+    interface RowGenerator {
+        Object[] row(long index, SplittableRandom random);
+    }
+
+    String insertSql() {
+        return "INSERT INTO " + name + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+    }
+
+    String copySql() {
+        return "COPY " + name + " (" + String.join(", ", columns) + ") FROM STDIN (FORMAT csv)";
+    }
+}
@@ -0,0 +1,13 @@
+package com.nxtclass.seed;
+
+/**
+ * Size of the synthetic district ({@code app.seed.*}).
+ */
+record SeedVolumes(int organizations, int gradesPerOrganization, int sectionsPerGrade,
+                   long teachers, long students, long assignments, long announcements) {
+
+    long totalRows(long gradeCount, long sectionCount) {
+        // teachers have three links each; every teacher, student and org admin also gets a users row
+        return organizations * 2L + gradeCount + sectionCount + teachers * 5 + students * 2 + assignments + announcements;
+    }
+}
@@ -0,0 +1,183 @@
+package com.nxtclass.service;
+
+import com.nxtclass.dto.DashboardResponse;
+import com.nxtclass.dto.TeacherGradeSectionDTO;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.repository.AnnouncementRepository;
+import com.nxtclass.repository.AssignmentRepository;
+import com.nxtclass.repository.GradeRepo;
+import com.nxtclass.repository.StudentDetailsRepo;
+import com.nxtclass.repository.SubjectRepository;
+import com.nxtclass.repository.TeacherDetailsRepo;
+import com.nxtclass.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Builds the role-specific dashboard in one call. Each part runs on the bounded dashboard
+ * executor with its own timeout; a slow or failing part is left out and reported in
+ * {@link DashboardResponse#unavailable()} instead of failing the whole response.
+ * The executor is private to this service so it never replaces Spring Boot's
+ * applicationTaskExecutor used by {@code @Async}; parts run under the caller's tenant and
+ * security context, so replica routing sees who is reading. A part that times out is cancelled:
+ * it is dropped if still queued and interrupted if running, which ends a wait for a pooled
+ * connection (a statement already executing runs to completion).
+ */
+@Service
+public class DashboardAPI implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(DashboardAPI.class);
+
+    private final StatsAPI statsAPI;
+    private final TeacherGradeSectionAPI teacherGradeSectionAPI;
+    private final AnnouncementRepository announcementRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final GradeRepo gradeRepo;
+    private final StudentDetailsRepo studentDetailsRepo;
+    private final TeacherDetailsRepo teacherDetailsRepo;
+    private final SubjectRepository subjectRepository;
+    private final ExecutorService executor;
+    private final Duration partTimeout;
+
+    public DashboardAPI(
+            StatsAPI statsAPI,
+            TeacherGradeSectionAPI teacherGradeSectionAPI,
+            AnnouncementRepository announcementRepository,
+            AssignmentRepository assignmentRepository,
+            GradeRepo gradeRepo,
+            StudentDetailsRepo studentDetailsRepo,
+            TeacherDetailsRepo teacherDetailsRepo,
+            SubjectRepository subjectRepository,
+            @Value("${app.dashboard.pool-size:16}") int poolSize,
+            @Value("${app.dashboard.queue-capacity:200}") int queueCapacity,
+            @Value("${app.dashboard.part-timeout-ms:1500}") long partTimeoutMillis
+    ) {
+        this.statsAPI = statsAPI;
+        this.teacherGradeSectionAPI = teacherGradeSectionAPI;
+        this.announcementRepository = announcementRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.gradeRepo = gradeRepo;
+        this.studentDetailsRepo = studentDetailsRepo;
+        this.teacherDetailsRepo = teacherDetailsRepo;
+        this.subjectRepository = subjectRepository;
+        // captures the submitting thread's SecurityContext for each part
+        this.executor = new DelegatingSecurityContextExecutorService(boundedExecutor(poolSize, queueCapacity));
+        this.partTimeout = Duration.ofMillis(partTimeoutMillis);
+    }
+
+    public DashboardResponse dashboard(UserRole role, String email) {
+        LocalDate today = LocalDate.now();
+        Map<String, Supplier<Object>> parts = new LinkedHashMap<>();
+        parts.put("stats", () -> statsAPI.stats(role.name().toLowerCase(Locale.ROOT), email));
+        parts.put("recentAnnouncements", () -> announcementRepository.findRecentAnnouncements(today.minusDays(30)));
+
+        switch (role) {
+            case ORGADMIN -> {
+                parts.put("gradeCount", gradeRepo::count);
+                parts.put("studentCount", studentDetailsRepo::count);
+                parts.put("teacherCount", teacherDetailsRepo::count);
+                parts.put("subjectCount", subjectRepository::count);
+            }
+            case TEACHER -> {
+                parts.put("upcomingAssignments", () -> assignmentRepository.findUpcomingAssignments(today));
+                parts.put("teacherLinks", () -> teacherLinks(email));
+                parts.put("gradeCount", gradeRepo::count);
+                parts.put("studentCount", studentDetailsRepo::count);
+                parts.put("subjectCount", subjectRepository::count);
+            }
+            case STUDENT -> parts.put("upcomingAssignments", () -> assignmentRepository.findUpcomingAssignments(today));
+        }
+
+        Map<String, CompletableFuture<Object>> futures = new LinkedHashMap<>();
+        parts.forEach((name, supplier) -> futures.put(name, submit(supplier)));
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .exceptionally(ex -> null)
+                .join();
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        Map<String, String> unavailable = new LinkedHashMap<>();
+        futures.forEach((name, future) -> {
+            try {
+                results.put(name, future.join());
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                String reason = cause instanceof TimeoutException ? "timeout" : "error";
+                log.warn("Dashboard part {} unavailable for {}: {}", name, role, cause.toString());
+                unavailable.put(name, reason);
+            }
+        });
+
+        return new DashboardResponse(role.name().toLowerCase(Locale.ROOT), results, unavailable);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * When the queue is full new parts are rejected and reported as unavailable
+     * instead of piling up behind slow queries.
+     */
+    private static ExecutorService boundedExecutor(int poolSize, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private CompletableFuture<Object> submit(Supplier<Object> supplier) {
+        Supplier<Object> part = TenantContext.propagate(supplier);
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(part.get());
+                } catch (Throwable ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException rejected) {
+            return CompletableFuture.failedFuture(rejected);
+        }
+        return result.orTimeout(partTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, ex) -> {
+                    if (ex instanceof TimeoutException) {
+                        task.cancel(true);
+                    }
+                });
+    }
+
+    private List<TeacherGradeSectionDTO> teacherLinks(String email) {
+        return teacherDetailsRepo.findFirstByEmail(email)
+                .map(teacher -> teacherGradeSectionAPI.listByTeacher(teacher.getIdentifier()))
+                .orElse(List.of());
+    }
+}
@@ -8,6 +8,7 @@ import com.nxtclass.entity.Section;
 import com.nxtclass.repository.GradeRepo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class GradeAPI {
 
     private final GradeRepo repo;
@@ -32,6 +34,7 @@ public class GradeAPI {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
     public Long save (GradeDTO dto) {
         Grade entity = (dto.getIdentifier() != null)
                 ? repo.findById(dto.getIdentifier()).orElse(new Grade())
@@ -69,6 +72,7 @@ public class GradeAPI {
     return dto;
     }
 
+    @Transactional
     public String delete(Long identifier) {
         if (!repo.existsById(identifier)) {
             throw new RuntimeException("Grade not found with ID: " + identifier);
@@ -0,0 +1,144 @@
+package com.nxtclass.service;
+
+import com.nxtclass.dto.GradebookEntry;
+import com.nxtclass.dto.GradebookResponse;
+import com.nxtclass.entity.StudentDetails;
+import com.nxtclass.entity.TeacherGradeSection;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.gradebook.Gradebook;
+import com.nxtclass.gradebook.GradebookScope;
+import com.nxtclass.repository.GradeRepo;
+import com.nxtclass.repository.StudentDetailsRepo;
+import com.nxtclass.repository.TeacherDetailsRepo;
+import com.nxtclass.repository.TeacherGradeSectionRepo;
+import com.nxtclass.tenant.TenantContext;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Gradebook reads for students, teachers and admins, each one index range over the running
+ * totals kept by {@link Gradebook}.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GradebookAPI {
+
+    private final Gradebook gradebook;
+    private final StudentDetailsRepo studentDetailsRepo;
+    private final TeacherDetailsRepo teacherDetailsRepo;
+    private final TeacherGradeSectionRepo teacherGradeSectionRepo;
+    private final GradeRepo gradeRepo;
+
+    /**
+     * @return the gradebook of the student signed in as {@code email}, empty if there is no such student
+     */
+    public Optional<GradebookResponse> forStudentEmail(String email) {
+        return studentDetailsRepo.findFirstByEmail(email)
+                .map(student -> scope(GradebookScope.STUDENT, student.getIdentifier()));
+    }
+
+    /**
+     * A student's gradebook. Teachers may only read students of a grade or section they are linked
+     * to; organization admins may read any.
+     *
+     * @throws EntityNotFoundException if the student does not exist
+     * @throws AccessDeniedException   if a teacher is not linked to the student's class
+     */
+    public GradebookResponse forStudent(Long identifier, String viewerEmail, UserRole viewerRole) {
+        StudentDetails student = studentDetailsRepo.findById(identifier)
+                .orElseThrow(() -> new EntityNotFoundException("Student not found with ID: " + identifier));
+        if (viewerRole != UserRole.ORGADMIN && links(viewerEmail).noneMatch(link ->
+                link.getGradeIdentifier() != null
+                        && link.getGradeIdentifier().equals(student.getGradeIdentifier())
+                        && (link.getSectionIdentifier() == null
+                        || link.getSectionIdentifier().equals(student.getSectionIdentifier())))) {
+            throw new AccessDeniedException("Not a teacher of student " + identifier);
+        }
+        return scope(GradebookScope.STUDENT, identifier);
+    }
+
+    /**
+     * One gradebook per class the teacher signed in as {@code email} is linked to: the section, or
+     * the whole grade for links without one.
+     */
+    public List<GradebookResponse> forTeacher(String email) {
+        return teacherDetailsRepo.findFirstByEmail(email)
+                .map(teacher -> teacherGradeSectionRepo.findByTeacherIdentifier(teacher.getIdentifier()).stream()
+                        .filter(link -> link.getGradeIdentifier() != null || link.getSectionIdentifier() != null)
+                        .map(link -> link.getSectionIdentifier() != null
+                                ? scope(GradebookScope.SECTION, link.getSectionIdentifier())
+                                : scope(GradebookScope.GRADE, link.getGradeIdentifier()))
+                        .toList())
+                .orElse(List.of());
+    }
+
+    /**
+     * A section's gradebook, for organization admins and teachers linked to the section or to its
+     * whole grade.
+     *
+     * @throws AccessDeniedException if a teacher is not linked to the section
+     */
+    public GradebookResponse forSection(Long identifier, String viewerEmail, UserRole viewerRole) {
+        if (viewerRole != UserRole.ORGADMIN && links(viewerEmail).noneMatch(link ->
+                identifier.equals(link.getSectionIdentifier())
+                        || link.getSectionIdentifier() == null && link.getGradeIdentifier() != null
+                        && gradeRepo.findById(link.getGradeIdentifier())
+                        .map(grade -> grade.getSections().stream()
+                                .anyMatch(section -> identifier.equals(section.getIdentifier())))
+                        .orElse(false))) {
+            throw new AccessDeniedException("Not a teacher of section " + identifier);
+        }
+        return scope(GradebookScope.SECTION, identifier);
+    }
+
+    /**
+     * A grade's gradebook, for organization admins and teachers linked to the whole grade; a link
+     * to one section does not cover the others.
+     *
+     * @throws AccessDeniedException if a teacher is not linked to the whole grade
+     */
+    public GradebookResponse forGrade(Long identifier, String viewerEmail, UserRole viewerRole) {
+        if (viewerRole != UserRole.ORGADMIN && links(viewerEmail).noneMatch(link ->
+                identifier.equals(link.getGradeIdentifier()) && link.getSectionIdentifier() == null)) {
+            throw new AccessDeniedException("Not a teacher of grade " + identifier);
+        }
+        return scope(GradebookScope.GRADE, identifier);
+    }
+
+    public GradebookResponse forOrganization() {
+        return scope(GradebookScope.ORGANIZATION, tenant());
+    }
+
+    @Transactional
+    public void rebuild() {
+        gradebook.rebuild(tenant());
+    }
+
+    private Stream<TeacherGradeSection> links(String email) {
+        return teacherDetailsRepo.findFirstByEmail(email)
+                .map(teacher -> teacherGradeSectionRepo.findByTeacherIdentifier(teacher.getIdentifier()).stream())
+                .orElse(Stream.empty());
+    }
+
+    private GradebookResponse scope(GradebookScope scope, long identifier) {
+        List<GradebookEntry> subjects = gradebook.find(tenant(), scope, identifier);
+        return new GradebookResponse(scope, identifier, Gradebook.total(subjects), subjects);
+    }
+
+    // the gradebook is read over JDBC, which Hibernate's tenant filter does not cover
+    private static long tenant() {
+        Long tenantId = TenantContext.current();
+        if (tenantId == null) {
+            throw new IllegalStateException("Gradebook requests must run with a tenant");
+        }
+        return tenantId;
+    }
+}
@@ -0,0 +1,86 @@
+package com.nxtclass.service;
+
+import com.nxtclass.dto.GradebookEntry;
+import com.nxtclass.dto.StatResponse;
+import com.nxtclass.entity.AssignmentStatus;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.repository.AssignmentRepository;
+import com.nxtclass.repository.GradeRepo;
+import com.nxtclass.repository.StudentDetailsRepo;
+import com.nxtclass.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatsAPI {
+
+    private final UserRepository userRepository;
+    private final StudentDetailsRepo studentDetailsRepo;
+    private final GradeRepo gradeRepo;
+    private final AssignmentRepository assignmentRepository;
+    private final GradebookAPI gradebookAPI;
+
+    /**
+     * @param type normalized (lower-case) dashboard type: orgadmin, teacher or student
+     * @param email the signed-in user, for the student's own grade
+     */
+    public List<StatResponse> stats(String type, String email) {
+        return switch (type) {
+            case "orgadmin" -> buildOrgAdminStats();
+            case "teacher" -> buildTeacherStats();
+            case "student" -> buildStudentStats(email);
+            default -> List.of();
+        };
+    }
+
+    private List<StatResponse> buildOrgAdminStats() {
+        long totalUsers = userRepository.count();
+        long teacherCount = userRepository.countByRole(UserRole.TEACHER);
+        long studentCount = userRepository.countByRole(UserRole.STUDENT);
+        long gradeCount = gradeRepo.count();
+
+        return List.of(
+                new StatResponse("Total Users", totalUsers, null, "up"),
+                new StatResponse("Active grades", gradeCount, null, "up"),
+                new StatResponse("Teachers", teacherCount, null, "up"),
+                new StatResponse("Students", studentCount, null, "up")
+        );
+    }
+
+    private List<StatResponse> buildTeacherStats() {
+        long myClasses = gradeRepo.count();
+        long totalStudents = studentDetailsRepo.count();
+        long totalAssignments = assignmentRepository.count();
+        long pendingAssignments = assignmentRepository.countByStatus(AssignmentStatus.PENDING);
+
+        return List.of(
+                new StatResponse("My Classes", myClasses, null, "up"),
+                new StatResponse("Total Students", totalStudents, null, "up"),
+                new StatResponse("Assignments", totalAssignments, pendingAssignments + " due", "up"),
+                new StatResponse("Avg. Attendance", "92%", null, "up")
+        );
+    }
+
+    private List<StatResponse> buildStudentStats(String email) {
+        long enrolledClasses = gradeRepo.count();
+        long assignmentsDue = assignmentRepository.countByStatus(AssignmentStatus.PENDING);
+        GradebookEntry overall = gradebookAPI.forStudentEmail(email)
+                .map(gradebook -> gradebook.overall())
+                .filter(entry -> entry.letter() != null)
+                .orElse(null);
+
+        return List.of(
+                new StatResponse("Enrolled Classes", enrolledClasses, "On track", "up"),
+                new StatResponse("Assignments Due", assignmentsDue, "This week", "up"),
+                overall == null
+                        ? new StatResponse("Overall Grade", "-", "Not graded yet", "up")
+                        : new StatResponse("Overall Grade", overall.letter().name(), overall.average() + "%", "up"),
+                new StatResponse("Attendance", "95%", "Excellent", "up")
+        );
+    }
+}
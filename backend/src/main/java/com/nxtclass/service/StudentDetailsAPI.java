@@ -6,12 +6,14 @@ import com.nxtclass.entity.StudentDetails;
 import com.nxtclass.repository.StudentDetailsRepo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class StudentDetailsAPI {
 
     private final StudentDetailsRepo repo;
@@ -25,6 +27,7 @@ public class StudentDetailsAPI {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
     public Long save (StudentDetailsDTO dto) {
         StudentDetails entity = (dto.getIdentifier() != null)
                 ? repo.findById(dto.getIdentifier()).orElse(new StudentDetails())
@@ -51,6 +54,7 @@ public class StudentDetailsAPI {
         return objectMapper.convertValue(entity, StudentDetailsDTO.class);
     }
 
+    @Transactional
     public String delete(Long identifier) {
         if (!repo.existsById(identifier)) {
             throw new RuntimeException("Student not found with ID: " + identifier);
@@ -6,12 +6,17 @@ import com.nxtclass.dto.SubjectDTO;
 import com.nxtclass.repository.SubjectRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class SubjectAPI {
     
     private final SubjectRepository repo;
@@ -23,11 +28,21 @@ public class SubjectAPI {
                 .map(entity -> objectMapper.convertValue(entity, SubjectDTO.class))
                 .collect(Collectors.toList());
     }
+
+    @Transactional
     public void save(List<SubjectDTO> dtos) {
+        // one IN query for all existing rows instead of a findById per DTO
+        Map<Long, Subject> existing = repo.findAllById(dtos.stream()
+                        .map(SubjectDTO::getIdentifier)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Subject::getIdentifier, Function.identity()));
+
         List<Subject> entities = dtos.stream()
                 .map(dto -> {
                     Subject entity = (dto.getIdentifier() != null)
-                            ? repo.findById(dto.getIdentifier()).orElse(new Subject())
+                            ? existing.getOrDefault(dto.getIdentifier(), new Subject())
                             : new Subject();
                     entity.setSubject(dto.getSubject());
                     return entity;
@@ -37,6 +52,7 @@ public class SubjectAPI {
         repo.saveAll(entities);
     }
 
+    @Transactional
     public void update(SubjectDTO dto) {
         if (dto.getIdentifier() == null) {
             throw new RuntimeException("Identifier is required for update.");
@@ -55,6 +71,7 @@ public class SubjectAPI {
         return objectMapper.convertValue(entity, SubjectDTO.class);
     }
 
+    @Transactional
     public String delete(Long identifier) {
         if (!repo.existsById(identifier)) {
             throw new RuntimeException("Subject not found with ID: " + identifier);
@@ -0,0 +1,202 @@
+package com.nxtclass.service;
+
+import com.nxtclass.config.IdentityGeneratorClass;
+import com.nxtclass.dto.SubmissionDTO;
+import com.nxtclass.dto.SubmissionSummary;
+import com.nxtclass.entity.Assignment;
+import com.nxtclass.entity.AssignmentStatus;
+import com.nxtclass.entity.AssignmentSubmission;
+import com.nxtclass.entity.StudentDetails;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.gradebook.Gradebook;
+import com.nxtclass.repository.AssignmentRepository;
+import com.nxtclass.repository.AssignmentSubmissionRepo;
+import com.nxtclass.repository.StudentDetailsRepo;
+import com.nxtclass.repository.TeacherDetailsRepo;
+import com.nxtclass.repository.TeacherGradeSectionRepo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SubmissionAPI {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_SUBMISSION = "INSERT INTO assignment_submissions "
+            + "(identifier, assignment_id, student_identifier, status, tenant_id) VALUES (?, ?, ?, 'PENDING', ?)";
+
+    private final AssignmentSubmissionRepo repo;
+    private final StudentDetailsRepo studentDetailsRepo;
+    private final TeacherDetailsRepo teacherDetailsRepo;
+    private final TeacherGradeSectionRepo teacherGradeSectionRepo;
+    private final AssignmentRepository assignmentRepository;
+    private final Gradebook gradebook;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Creates a PENDING submission for every student in the assignment's grade (and section, if set)
+     * that does not have one yet. Rows go out as JDBC batches in the caller's transaction, so a
+     * 1,000-student publish is two round trips of multi-row inserts rather than 1,000 entity persists.
+     *
+     * @return number of submissions created
+     */
+    @Transactional
+    public int publish(Assignment assignment) {
+        if (assignment.getGradeIdentifier() == null) {
+            return 0;
+        }
+        List<Long> students = studentDetailsRepo.findIdentifiersByGradeAndSection(
+                assignment.getGradeIdentifier(), assignment.getSectionIdentifier());
+        Set<Long> existing = new HashSet<>(repo.findStudentIdentifiersByAssignmentId(assignment.getId()));
+
+        List<Object[]> rows = new ArrayList<>(students.size());
+        for (Long student : students) {
+            if (!existing.contains(student)) {
+                rows.add(new Object[]{IdentityGeneratorClass.nextIdentifier(entityManager, AssignmentSubmission.class), assignment.getId(), student,
+                        assignment.getTenantId()});
+            }
+        }
+        for (int from = 0; from < rows.size(); from += INSERT_BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_SUBMISSION, rows.subList(from, Math.min(from + INSERT_BATCH_SIZE, rows.size())));
+        }
+        return rows.size();
+    }
+
+    public List<SubmissionDTO> forStudent(String email, AssignmentStatus status) {
+        return studentDetailsRepo.findFirstByEmail(email)
+                .map(student -> repo.findForStudent(student.getIdentifier(), status))
+                .orElse(List.of());
+    }
+
+    public SubmissionSummary summary(Long assignmentId) {
+        Map<AssignmentStatus, Long> counts = new EnumMap<>(AssignmentStatus.class);
+        for (Object[] row : repo.countByStatusForAssignment(assignmentId)) {
+            counts.put((AssignmentStatus) row[0], (Long) row[1]);
+        }
+        long pending = counts.getOrDefault(AssignmentStatus.PENDING, 0L);
+        long submitted = counts.getOrDefault(AssignmentStatus.SUBMITTED, 0L);
+        long graded = counts.getOrDefault(AssignmentStatus.GRADED, 0L);
+        long total = pending + submitted + graded;
+        double completionRate = total == 0 ? 0.0 : (double) (submitted + graded) / total;
+        return new SubmissionSummary(assignmentId, total, pending, submitted, graded, completionRate);
+    }
+
+    @Transactional
+    public void submit(Long identifier, String email) {
+        AssignmentSubmission submission = repo.findById(identifier)
+                .orElseThrow(() -> new EntityNotFoundException("Submission not found with ID: " + identifier));
+        Long studentIdentifier = studentDetailsRepo.findFirstByEmail(email)
+                .map(student -> student.getIdentifier())
+                .orElse(null);
+        if (!submission.getStudentIdentifier().equals(studentIdentifier)) {
+            throw new EntityNotFoundException("Submission not found with ID: " + identifier);
+        }
+        submission.setStatus(AssignmentStatus.SUBMITTED);
+        submission.setSubmittedAt(LocalDateTime.now());
+    }
+
+    /**
+     * Scores a submission and posts the change to the gradebook: the score itself on a first grade,
+     * the difference from the previous score on a regrade. Teachers may only grade students of a
+     * grade or section they are linked to; organization admins may grade any.
+     *
+     * @throws EntityNotFoundException  if the submission, its assignment or its student does not exist
+     * @throws AccessDeniedException    if a teacher is not linked to the student's class
+     * @throws IllegalArgumentException if the score is outside 0..total points
+     */
+    @Transactional
+    public void grade(Long identifier, Integer score, String graderEmail, UserRole graderRole) {
+        AssignmentSubmission submission = repo.findForUpdate(identifier)
+                .orElseThrow(() -> new EntityNotFoundException("Submission not found with ID: " + identifier));
+        Assignment assignment = assignmentRepository.findById(submission.getAssignmentId())
+                .orElseThrow(() -> new EntityNotFoundException("Assignment not found with ID: " + submission.getAssignmentId()));
+        StudentDetails student = studentDetailsRepo.findById(submission.getStudentIdentifier())
+                .orElseThrow(() -> new EntityNotFoundException("Student not found with ID: " + submission.getStudentIdentifier()));
+        if (graderRole != UserRole.ORGADMIN && !teaches(graderEmail, student)) {
+            throw new AccessDeniedException("Not a teacher of submission " + identifier);
+        }
+        if (score == null || score < 0 || score > assignment.getTotalPoints()) {
+            throw new IllegalArgumentException("Score must be between 0 and " + assignment.getTotalPoints());
+        }
+
+        // the old score comes out of the class it was counted in, the new one goes to the current class
+        Gradebook.Ledger ledger = new Gradebook.Ledger(submission.getTenantId());
+        if (submission.getStatus() == AssignmentStatus.GRADED && submission.getScore() != null) {
+            ledger.post(assignment.getSubject(), assignment.getTotalPoints(), student.getIdentifier(),
+                    submission.getGradedGradeIdentifier(), submission.getGradedSectionIdentifier(),
+                    submission.getScore(), -1);
+        }
+        ledger.post(assignment.getSubject(), assignment.getTotalPoints(), student.getIdentifier(),
+                student.getGradeIdentifier(), student.getSectionIdentifier(), score, 1);
+        gradebook.apply(ledger);
+
+        submission.setGradedGradeIdentifier(student.getGradeIdentifier());
+        submission.setGradedSectionIdentifier(student.getSectionIdentifier());
+        submission.setScore(score);
+        submission.setStatus(AssignmentStatus.GRADED);
+        submission.setGradedAt(LocalDateTime.now());
+    }
+
+    // linked to the student's whole grade, or to the student's section of it
+    private boolean teaches(String email, StudentDetails student) {
+        return teacherDetailsRepo.findFirstByEmail(email)
+                .map(teacher -> teacherGradeSectionRepo.findByTeacherIdentifier(teacher.getIdentifier()).stream()
+                        .anyMatch(link -> link.getGradeIdentifier() != null
+                                && link.getGradeIdentifier().equals(student.getGradeIdentifier())
+                                && (link.getSectionIdentifier() == null
+                                || link.getSectionIdentifier().equals(student.getSectionIdentifier()))))
+                .orElse(false);
+    }
+
+    /**
+     * Moves an assignment's graded submissions in the gradebook after its subject or total points
+     * changed; a no-op otherwise. Each stays counted in the class it was graded in.
+     */
+    @Transactional
+    public void regrade(Assignment assignment, String previousSubject, Integer previousTotalPoints) {
+        if (Objects.equals(assignment.getSubject(), previousSubject)
+                && Objects.equals(assignment.getTotalPoints(), previousTotalPoints)) {
+            return;
+        }
+        Gradebook.Ledger ledger = new Gradebook.Ledger(assignment.getTenantId());
+        for (Object[] row : repo.findGradedForAssignment(assignment.getId())) {
+            int score = (Integer) row[1];
+            ledger.post(previousSubject, previousTotalPoints, (Long) row[0], (Long) row[2], (Long) row[3], score, -1);
+            ledger.post(assignment.getSubject(), assignment.getTotalPoints(), (Long) row[0], (Long) row[2], (Long) row[3], score, 1);
+        }
+        gradebook.apply(ledger);
+    }
+
+    /**
+     * Deletes an assignment's submissions, withdrawing the graded ones from the gradebook (from the
+     * class each was graded in) first.
+     */
+    @Transactional
+    public void deleteForAssignment(Long assignmentId) {
+        assignmentRepository.findById(assignmentId).ifPresent(assignment -> {
+            Gradebook.Ledger ledger = new Gradebook.Ledger(assignment.getTenantId());
+            for (Object[] row : repo.findGradedForAssignment(assignmentId)) {
+                ledger.post(assignment.getSubject(), assignment.getTotalPoints(), (Long) row[0], (Long) row[2],
+                        (Long) row[3], (Integer) row[1], -1);
+            }
+            gradebook.apply(ledger);
+        });
+        repo.deleteByAssignmentId(assignmentId);
+    }
+}
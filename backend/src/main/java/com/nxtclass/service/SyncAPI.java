@@ -0,0 +1,160 @@
+package com.nxtclass.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.nxtclass.dto.SyncChange;
+import com.nxtclass.dto.SyncResponse;
+import com.nxtclass.entity.Announcement;
+import com.nxtclass.entity.Assignment;
+import com.nxtclass.entity.ChangeJournalEntry;
+import com.nxtclass.entity.Grade;
+import com.nxtclass.entity.Section;
+import com.nxtclass.entity.StudentDetails;
+import com.nxtclass.entity.Subject;
+import com.nxtclass.entity.TeacherDetails;
+import com.nxtclass.event.ChangeJournal;
+import com.nxtclass.event.EntityChangeEvent;
+import com.nxtclass.repository.ChangeJournalRepo;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class SyncAPI {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final Map<String, Class<?>> SYNCED_TYPES = Stream.of(
+                    StudentDetails.class, TeacherDetails.class, Grade.class, Section.class,
+                    Subject.class, Assignment.class, Announcement.class)
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final ChangeJournalRepo journal;
+    private final ChangeJournal changeJournal;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Duration settleWindow;
+
+    public SyncAPI(ChangeJournalRepo journal,
+                   ChangeJournal changeJournal,
+                   EntityManager entityManager,
+                   ObjectMapper objectMapper,
+                   @Value("${app.sync.settle-window:15s}") Duration settleWindow) {
+        this.journal = journal;
+        this.changeJournal = changeJournal;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.settleWindow = settleWindow;
+    }
+
+    /**
+     * Whether a client at {@code since} can continue incrementally. False once the entries after
+     * its cursor have been purged; the client must then reload everything and restart from 0.
+     */
+    public boolean isCursorValid(long since) {
+        if (since == 0) {
+            return true;
+        }
+        Long oldest = journal.findOldestSeq();
+        return oldest != null && since >= oldest - 1;
+    }
+
+    /**
+     * Current end of the journal. A new client reads this before loading its lists, then syncs
+     * from it; anything that changed while the lists were loading is replayed, never lost.
+     */
+    public long latestCursor() {
+        Long latest = journal.findLatestSeq();
+        return latest == null ? 0 : latest;
+    }
+
+    /**
+     * Changes after {@code since}, at most one per entity (the latest), with the entity's current
+     * state. Sequence numbers are assigned at insert but become visible at commit, so a slow
+     * transaction can commit a lower seq after a higher one is already visible. Entries younger
+     * than the settle window are therefore held back until any such stragglers have committed;
+     * {@link ChangeJournal} rolls back transactions that would commit later than that. Ages are
+     * measured on the database clock that wrote them.
+     */
+    public SyncResponse changesSince(long since, int limit) {
+        LocalDateTime settled = changeJournal.databaseNow().minus(settleWindow);
+        List<ChangeJournalEntry> entries = journal.findBySeqGreaterThanOrderBySeq(since, PageRequest.of(0, limit));
+        boolean hasMore = entries.size() == limit;
+
+        long cursor = since;
+        Map<String, ChangeJournalEntry> latest = new LinkedHashMap<>();
+        for (ChangeJournalEntry entry : entries) {
+            if (!entry.getChangedAt().isBefore(settled)) {
+                hasMore = false;
+                break;
+            }
+            if (SYNCED_TYPES.containsKey(entry.getEntityType())) {
+                String key = entry.getEntityType() + ":" + entry.getEntityId();
+                latest.remove(key);
+                latest.put(key, entry);
+            }
+            cursor = entry.getSeq();
+        }
+
+        Map<String, Map<Long, Object>> current = loadCurrent(latest.values());
+        List<SyncChange> changes = new ArrayList<>(latest.size());
+        for (ChangeJournalEntry entry : latest.values()) {
+            if (entry.getChangeType() == EntityChangeEvent.ChangeType.DELETED) {
+                changes.add(new SyncChange(entry.getSeq(), entry.getEntityType(), entry.getEntityId(), entry.getChangeType(), null));
+                continue;
+            }
+            Object entity = current.getOrDefault(entry.getEntityType(), Map.of()).get(entry.getEntityId());
+            if (entity != null) { // otherwise deleted since; its tombstone follows on a later page
+                changes.add(new SyncChange(entry.getSeq(), entry.getEntityType(), entry.getEntityId(), entry.getChangeType(),
+                        toJson(entity)));
+            }
+        }
+        return new SyncResponse(cursor, hasMore, changes);
+    }
+
+    private Map<String, Map<Long, Object>> loadCurrent(Iterable<ChangeJournalEntry> entries) {
+        Map<String, List<Long>> idsByType = new HashMap<>();
+        for (ChangeJournalEntry entry : entries) {
+            if (entry.getChangeType() != EntityChangeEvent.ChangeType.DELETED) {
+                idsByType.computeIfAbsent(entry.getEntityType(), t -> new ArrayList<>()).add(entry.getEntityId());
+            }
+        }
+        Session session = entityManager.unwrap(Session.class);
+        Map<String, Map<Long, Object>> loaded = new HashMap<>();
+        idsByType.forEach((type, ids) -> {
+            Map<Long, Object> byId = new HashMap<>();
+            // one IN query per type, served from the second-level cache where the type is cached
+            for (Object entity : session.byMultipleIds(SYNCED_TYPES.get(type)).multiLoad(ids)) {
+                if (entity != null) {
+                    byId.put((Long) session.getIdentifier(entity), entity);
+                }
+            }
+            loaded.put(type, byId);
+        });
+        return loaded;
+    }
+
+    private ObjectNode toJson(Object entity) {
+        ObjectNode node = objectMapper.valueToTree(entity);
+        if (entity instanceof Section section) {
+            // Section.grade is the back-reference side and is not serialized
+            node.put("gradeIdentifier", section.getGrade() == null ? null : section.getGrade().getIdentifier());
+        }
+        return node;
+    }
+}
@@ -9,12 +9,14 @@ import com.nxtclass.repository.TeacherDetailsRepo;
 import com.nxtclass.repository.TeacherGradeSectionRepo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class TeacherDetailsAPI {
 
     private final TeacherDetailsRepo repo;
@@ -28,6 +30,7 @@ public class TeacherDetailsAPI {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
     public Long save(TeacherDetailsDTO dto) {
         TeacherDetails entity = (dto.getIdentifier() != null)
                 ? repo.findById(dto.getIdentifier()).orElse(new TeacherDetails())
@@ -82,6 +85,7 @@ public class TeacherDetailsAPI {
         return dto;
     }
 
+    @Transactional
     public String delete(Long identifier) {
         if (!repo.existsById(identifier)) {
             throw new RuntimeException("Teacher not found with ID: " + identifier);
@@ -6,12 +6,14 @@ import com.nxtclass.entity.TeacherGradeSection;
 import com.nxtclass.repository.TeacherGradeSectionRepo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class TeacherGradeSectionAPI {
 
     private final TeacherGradeSectionRepo repo;
@@ -27,6 +29,7 @@ public class TeacherGradeSectionAPI {
     /**
      * Replace assignments for a teacher with provided list. If list is empty, all assignments are removed.
      */
+    @Transactional
     public void saveForTeacher(Long teacherIdentifier, List<TeacherGradeSectionDTO> dtos) {
         // delete existing assignments for teacher
         repo.deleteByTeacherIdentifier(teacherIdentifier);
@@ -0,0 +1,47 @@
+package com.nxtclass.tenant;
+
+import java.util.function.Supplier;
+
+/**
+ * The organization the current thread works for. Bound per request by
+ * {@code JwtAuthenticationFilter} from the token's {@code tenant} claim; threads with no tenant
+ * (startup, scheduled jobs, login) run as root and see every organization.
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * @return the current tenant, or null when running as root
+     */
+    public static Long current() {
+        return CURRENT.get();
+    }
+
+    public static void set(Long tenantId) {
+        CURRENT.set(tenantId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Binds the caller's tenant around {@code supplier}, for work handed to another thread.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> supplier) {
+        Long tenantId = current();
+        return () -> {
+            Long previous = current();
+            set(tenantId);
+            try {
+                return supplier.get();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+}
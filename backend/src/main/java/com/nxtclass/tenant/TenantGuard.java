@@ -0,0 +1,22 @@
+package com.nxtclass.tenant;
+
+import com.nxtclass.entity.TenantScoped;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PostLoad;
+import org.hibernate.Hibernate;
+
+/**
+ * Entity listener that rejects another organization's rows loaded by identifier. Hibernate's
+ * tenant filter covers queries and collections but not {@code find} by primary key; to the caller
+ * such rows look as if they did not exist.
+ */
+public class TenantGuard {
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        Long tenantId = TenantContext.current();
+        if (tenantId != null && entity instanceof TenantScoped scoped && !tenantId.equals(scoped.getTenantId())) {
+            throw new EntityNotFoundException(Hibernate.getClass(entity).getSimpleName() + " not found");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.nxtclass.tenant;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Feeds {@link TenantContext} to Hibernate, which then restricts every query on a
+ * {@code @TenantId} entity to the session's tenant and stamps it on inserts. Sessions opened
+ * without a tenant are root sessions: no restriction, and inserts must set the tenant themselves.
+ */
+@Component
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver, HibernatePropertiesCustomizer {
+
+    static final String ROOT = "root";
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        Long tenantId = TenantContext.current();
+        return tenantId == null ? ROOT : tenantId.toString();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    @Override
+    public boolean isRoot(String tenantId) {
+        return ROOT.equals(tenantId);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+}
@@ -0,0 +1,104 @@
+-- Baseline schema, matching what Hibernate generated with ddl-auto=update.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this script.
+
+CREATE TABLE users (
+    identifier   BIGINT       NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    role         ENUM ('ORGADMIN','TEACHER','STUDENT') NOT NULL,
+    status       ENUM ('ACTIVE','INACTIVE') NOT NULL,
+    avatar_url   VARCHAR(255),
+    organization VARCHAR(255),
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (identifier),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE grade (
+    identifier  BIGINT NOT NULL,
+    grade       VARCHAR(255),
+    description TEXT,
+    PRIMARY KEY (identifier)
+) ENGINE = InnoDB;
+
+CREATE TABLE section (
+    identifier BIGINT NOT NULL,
+    name       VARCHAR(255),
+    grade_id   BIGINT,
+    PRIMARY KEY (identifier),
+    CONSTRAINT fk_section_grade FOREIGN KEY (grade_id) REFERENCES grade (identifier)
+) ENGINE = InnoDB;
+
+CREATE TABLE subjects (
+    identifier BIGINT NOT NULL,
+    subject    VARCHAR(255),
+    PRIMARY KEY (identifier)
+) ENGINE = InnoDB;
+
+CREATE TABLE student_details (
+    identifier         BIGINT NOT NULL,
+    first_name         VARCHAR(255),
+    last_name          VARCHAR(255),
+    email              VARCHAR(255),
+    phone_no           VARCHAR(255),
+    grade_identifier   BIGINT,
+    section_identifier BIGINT,
+    lecture            VARCHAR(255),
+    address1           VARCHAR(255),
+    address2           VARCHAR(255),
+    pincode            VARCHAR(255),
+    state              VARCHAR(255),
+    country            VARCHAR(255),
+    adhar_no           VARCHAR(255),
+    PRIMARY KEY (identifier)
+) ENGINE = InnoDB;
+
+CREATE TABLE teacher_details (
+    identifier BIGINT NOT NULL,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    email      VARCHAR(255),
+    phone_no   VARCHAR(255),
+    address1   VARCHAR(255),
+    address2   VARCHAR(255),
+    pincode    VARCHAR(255),
+    state      VARCHAR(255),
+    country    VARCHAR(255),
+    adhar_no   VARCHAR(255),
+    PRIMARY KEY (identifier)
+) ENGINE = InnoDB;
+
+CREATE TABLE teacher_grade_section (
+    identifier         BIGINT NOT NULL,
+    teacher_identifier BIGINT,
+    grade_identifier   BIGINT,
+    section_identifier BIGINT,
+    PRIMARY KEY (identifier)
+) ENGINE = InnoDB;
+
+CREATE TABLE assignments (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(255) NOT NULL,
+    subject      VARCHAR(255) NOT NULL,
+    due_date     DATE         NOT NULL,
+    status       ENUM ('PENDING','SUBMITTED','GRADED') NOT NULL,
+    grade        INTEGER,
+    total_points INTEGER      NOT NULL,
+    description  TEXT,
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE announcements (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(255) NOT NULL,
+    content    TEXT         NOT NULL,
+    author     VARCHAR(255) NOT NULL,
+    date       DATE         NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
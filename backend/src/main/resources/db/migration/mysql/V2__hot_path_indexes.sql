@@ -0,0 +1,27 @@
+-- Indexes for the repository queries on the request hot path.
+
+-- AssignmentRepository: findByStatus, countByStatus
+CREATE INDEX idx_assignments_status ON assignments (status);
+-- AssignmentRepository: findByDueDate, findUpcomingAssignments (due_date >= ? ORDER BY due_date)
+CREATE INDEX idx_assignments_due_date ON assignments (due_date);
+-- AssignmentRepository: findBySubject
+CREATE INDEX idx_assignments_subject_due_date ON assignments (subject, due_date);
+
+-- AnnouncementRepository: findByDate, findRecentAnnouncements (date >= ? ORDER BY date DESC)
+CREATE INDEX idx_announcements_date ON announcements (date);
+-- AnnouncementRepository: findByAuthor
+CREATE INDEX idx_announcements_author_date ON announcements (author, date);
+
+-- UserRepository: findByRole, countByRole / findByStatus, countByStatus / findByOrganization
+CREATE INDEX idx_users_role ON users (role);
+CREATE INDEX idx_users_status ON users (status);
+CREATE INDEX idx_users_organization ON users (organization);
+
+-- TeacherGradeSectionRepo: findByTeacherIdentifier, deleteByTeacherIdentifier
+CREATE INDEX idx_tgs_teacher ON teacher_grade_section (teacher_identifier);
+
+-- Students by grade / section roster
+CREATE INDEX idx_student_details_grade_section ON student_details (grade_identifier, section_identifier);
+
+-- TeacherDetailsRepo: findFirstByEmail (dashboard teacher links)
+CREATE INDEX idx_teacher_details_email ON teacher_details (email);
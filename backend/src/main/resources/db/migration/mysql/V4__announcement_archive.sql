@@ -0,0 +1,25 @@
+-- Announcements older than the retention window move out of the hot table into the archive
+-- (AnnouncementArchiver). MySQL cannot partition a table whose primary key omits the partition
+-- column without rebuilding it, so partitioning is emulated: the archiver creates one
+-- announcements_archive_<year> table per year with CREATE TABLE ... LIKE the template below and
+-- records it in announcement_archive_partitions. The template itself stays empty.
+
+CREATE TABLE announcements_archive (
+    id          BIGINT       NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    content     TEXT         NOT NULL,
+    author      VARCHAR(255) NOT NULL,
+    date        DATE         NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6),
+    archived_at DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    INDEX idx_announcements_archive_date (date),
+    INDEX idx_announcements_archive_author_date (author, date)
+) ENGINE = InnoDB;
+
+CREATE TABLE announcement_archive_partitions (
+    archive_year INTEGER     NOT NULL,
+    table_name   VARCHAR(64) NOT NULL,
+    PRIMARY KEY (archive_year)
+) ENGINE = InnoDB;
@@ -0,0 +1,13 @@
+-- Change journal behind /api/sync (ChangeJournal, ChangeJournalEntry)
+
+CREATE TABLE change_journal (
+    seq         BIGINT      NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(64) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    change_type ENUM ('CREATED','UPDATED','DELETED') NOT NULL,
+    changed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (seq)
+) ENGINE = InnoDB;
+
+-- ChangeJournalRepo: findLatestSeqBefore (retention purge)
+CREATE INDEX idx_change_journal_changed_at ON change_journal (changed_at);
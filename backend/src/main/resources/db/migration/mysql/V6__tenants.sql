@@ -0,0 +1,139 @@
+-- Organization-scoped tenancy. Every tenant-owned table gets tenant_id (Hibernate @TenantId adds
+-- "tenant_id = ?" to each query) and every hot-path index is rebuilt to lead with it, so a tenant's
+-- queries only range over that tenant's slice of the index. Each table is altered in one statement
+-- so it is rebuilt once.
+
+CREATE TABLE organizations (
+    identifier BIGINT       NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (identifier),
+    CONSTRAINT uk_organizations_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+-- Existing rows all go to the default organization. Users' free-text organization is left as it is:
+-- grades, subjects and announcements have no owner to follow a user into another tenant, so moving
+-- users alone would split a school's data across tenants.
+INSERT INTO organizations (identifier, name, created_at) VALUES (1, 'NXT Class', CURRENT_TIMESTAMP(6));
+
+-- UserRepository: findByRole, countByRole / findByStatus, countByStatus / findByOrganization / countAllUsers.
+-- uk_users_email stays global: login looks users up by email before the tenant is known.
+ALTER TABLE users
+    ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1,
+    DROP INDEX idx_users_role,
+    DROP INDEX idx_users_status,
+    DROP INDEX idx_users_organization,
+    ADD INDEX idx_users_tenant_role (tenant_id, role),
+    ADD INDEX idx_users_tenant_status (tenant_id, status),
+    ADD INDEX idx_users_tenant_organization (tenant_id, organization);
+
+ALTER TABLE grade ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE section ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE subjects ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+
+-- Students by grade / section roster; StudentDetailsRepo: findFirstByEmail
+ALTER TABLE student_details
+    ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1,
+    DROP INDEX idx_student_details_grade_section,
+    DROP INDEX idx_student_details_email,
+    ADD INDEX idx_student_details_tenant_grade_section (tenant_id, grade_identifier, section_identifier),
+    ADD INDEX idx_student_details_tenant_email (tenant_id, email);
+
+-- TeacherDetailsRepo: findFirstByEmail (dashboard teacher links)
+ALTER TABLE teacher_details
+    ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1,
+    DROP INDEX idx_teacher_details_email,
+    ADD INDEX idx_teacher_details_tenant_email (tenant_id, email);
+
+-- TeacherGradeSectionRepo: findByTeacherIdentifier, deleteByTeacherIdentifier
+ALTER TABLE teacher_grade_section
+    ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1,
+    DROP INDEX idx_tgs_teacher,
+    ADD INDEX idx_tgs_tenant_teacher (tenant_id, teacher_identifier);
+
+-- AssignmentRepository: findByStatus, countByStatus / findByDueDate, findUpcomingAssignments / findBySubject
+ALTER TABLE assignments
+    ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1,
+    DROP INDEX idx_assignments_status,
+    DROP INDEX idx_assignments_due_date,
+    DROP INDEX idx_assignments_subject_due_date,
+    ADD INDEX idx_assignments_tenant_status (tenant_id, status),
+    ADD INDEX idx_assignments_tenant_due_date (tenant_id, due_date),
+    ADD INDEX idx_assignments_tenant_subject_due_date (tenant_id, subject, due_date);
+
+-- AssignmentSubmissionRepo: findForStudent, countByStatusForAssignment
+ALTER TABLE assignment_submissions
+    ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1,
+    DROP INDEX idx_submissions_student_status,
+    DROP INDEX idx_submissions_assignment_status,
+    ADD INDEX idx_submissions_tenant_student_status (tenant_id, student_identifier, status),
+    ADD INDEX idx_submissions_tenant_assignment_status (tenant_id, assignment_id, status);
+
+-- AnnouncementRepository: findByDate, findRecentAnnouncements / findByAuthor
+ALTER TABLE announcements
+    ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1,
+    DROP INDEX idx_announcements_date,
+    DROP INDEX idx_announcements_author_date,
+    ADD INDEX idx_announcements_tenant_date (tenant_id, date),
+    ADD INDEX idx_announcements_tenant_author_date (tenant_id, author, date);
+
+-- ChangeJournalRepo: findBySeqGreaterThanOrderBySeq, findOldestSeq, findLatestSeq per tenant
+ALTER TABLE change_journal
+    ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1,
+    ADD INDEX idx_change_journal_tenant_seq (tenant_id, seq);
+
+-- AnnouncementArchive.find: the template, and every yearly table already created from it
+DELIMITER //
+CREATE PROCEDURE tenant_announcement_archive(IN archive_table VARCHAR(64))
+BEGIN
+    SET @ddl = CONCAT('ALTER TABLE ', archive_table,
+        ' ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1,',
+        ' DROP INDEX idx_announcements_archive_date,',
+        ' DROP INDEX idx_announcements_archive_author_date,',
+        ' ADD INDEX idx_announcements_archive_tenant_date (tenant_id, date),',
+        ' ADD INDEX idx_announcements_archive_tenant_author_date (tenant_id, author, date)');
+    PREPARE statement FROM @ddl;
+    EXECUTE statement;
+    DEALLOCATE PREPARE statement;
+    SET @ddl = CONCAT('ALTER TABLE ', archive_table, ' ALTER COLUMN tenant_id DROP DEFAULT');
+    PREPARE statement FROM @ddl;
+    EXECUTE statement;
+    DEALLOCATE PREPARE statement;
+END //
+
+CREATE PROCEDURE tenant_announcement_archives()
+BEGIN
+    DECLARE done BOOLEAN DEFAULT FALSE;
+    DECLARE archive_table VARCHAR(64);
+    DECLARE archive_tables CURSOR FOR SELECT table_name FROM announcement_archive_partitions;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+
+    CALL tenant_announcement_archive('announcements_archive');
+    OPEN archive_tables;
+    archive_loop: LOOP
+        FETCH archive_tables INTO archive_table;
+        IF done THEN
+            LEAVE archive_loop;
+        END IF;
+        CALL tenant_announcement_archive(archive_table);
+    END LOOP;
+    CLOSE archive_tables;
+END //
+DELIMITER ;
+
+CALL tenant_announcement_archives();
+DROP PROCEDURE tenant_announcement_archives;
+DROP PROCEDURE tenant_announcement_archive;
+
+-- The default only served the backfill: new rows must always name their tenant.
+ALTER TABLE users ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE grade ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE section ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE subjects ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE student_details ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE teacher_details ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE teacher_grade_section ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE assignments ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE assignment_submissions ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE announcements ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE change_journal ALTER COLUMN tenant_id DROP DEFAULT;
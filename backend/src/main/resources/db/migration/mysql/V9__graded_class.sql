@@ -0,0 +1,11 @@
+-- The grade and section a submission's score was counted towards in gradebook_aggregates. Regrades
+-- and assignment edits withdraw the old score from these, not from the student's current class,
+-- so a student changing section leaves both sections' totals consistent.
+ALTER TABLE assignment_submissions
+    ADD COLUMN graded_grade_identifier BIGINT,
+    ADD COLUMN graded_section_identifier BIGINT;
+
+-- V7 counted existing grades towards the student's class at the time; record that.
+UPDATE assignment_submissions s JOIN student_details d ON d.identifier = s.student_identifier
+SET s.graded_grade_identifier = d.grade_identifier, s.graded_section_identifier = d.section_identifier
+WHERE s.status = 'GRADED';
@@ -0,0 +1,9 @@
+-- Heartbeat behind replica lag measurement (ReplicaHealthChecker): the primary rewrites row 1 every
+-- check and each replica's lag is the age of the copy it has replicated. Used to be created by the
+-- checker at startup, which needs DDL rights for the application user.
+
+CREATE TABLE replication_heartbeat (
+    id          INT    NOT NULL,
+    beat_millis BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,25 @@
+-- Per-student submission tracking; rows are fanned out when an assignment is published.
+
+ALTER TABLE assignments
+    ADD COLUMN grade_identifier   BIGINT,
+    ADD COLUMN section_identifier BIGINT;
+
+CREATE TABLE assignment_submissions (
+    identifier         BIGINT       NOT NULL,
+    assignment_id      BIGINT       NOT NULL,
+    student_identifier BIGINT       NOT NULL,
+    status             VARCHAR(255) NOT NULL CHECK (status IN ('PENDING','SUBMITTED','GRADED')),
+    score              INTEGER,
+    submitted_at       TIMESTAMP(6),
+    graded_at          TIMESTAMP(6),
+    PRIMARY KEY (identifier),
+    CONSTRAINT uk_submission_assignment_student UNIQUE (assignment_id, student_identifier)
+);
+
+-- AssignmentSubmissionRepo: findForStudent ("my pending work")
+CREATE INDEX idx_submissions_student_status ON assignment_submissions (student_identifier, status);
+-- AssignmentSubmissionRepo: countByStatusForAssignment (completion summary)
+CREATE INDEX idx_submissions_assignment_status ON assignment_submissions (assignment_id, status);
+
+-- StudentDetailsRepo: findFirstByEmail
+CREATE INDEX idx_student_details_email ON student_details (email);
@@ -0,0 +1,13 @@
+-- Change journal behind /api/sync (ChangeJournal, ChangeJournalEntry)
+
+CREATE TABLE change_journal (
+    seq         BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    entity_type VARCHAR(64)  NOT NULL,
+    entity_id   BIGINT       NOT NULL,
+    change_type VARCHAR(255) NOT NULL CHECK (change_type IN ('CREATED','UPDATED','DELETED')),
+    changed_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+-- ChangeJournalRepo: findLatestSeqBefore (retention purge)
+CREATE INDEX idx_change_journal_changed_at ON change_journal (changed_at);
@@ -0,0 +1,101 @@
+-- Organization-scoped tenancy. Every tenant-owned table gets tenant_id (Hibernate @TenantId adds
+-- "tenant_id = ?" to each query) and every hot-path index is rebuilt to lead with it, so a tenant's
+-- queries only range over that tenant's slice of the index.
+
+CREATE TABLE organizations (
+    identifier BIGINT       NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (identifier),
+    CONSTRAINT uk_organizations_name UNIQUE (name)
+);
+
+-- Existing rows all go to the default organization. Users' free-text organization is left as it is:
+-- grades, subjects and announcements have no owner to follow a user into another tenant, so moving
+-- users alone would split a school's data across tenants.
+INSERT INTO organizations (identifier, name, created_at) VALUES (1, 'NXT Class', CURRENT_TIMESTAMP);
+
+ALTER TABLE users ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE grade ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE section ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE subjects ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE student_details ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE teacher_details ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE teacher_grade_section ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE assignments ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE assignment_submissions ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE announcements ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+-- added on the parent, inherited by every yearly partition
+ALTER TABLE announcements_archive ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+ALTER TABLE change_journal ADD COLUMN tenant_id BIGINT NOT NULL DEFAULT 1;
+
+-- The default only served the backfill: new rows must always name their tenant.
+ALTER TABLE users ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE grade ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE section ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE subjects ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE student_details ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE teacher_details ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE teacher_grade_section ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE assignments ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE assignment_submissions ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE announcements ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE announcements_archive ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE change_journal ALTER COLUMN tenant_id DROP DEFAULT;
+
+-- Hot-path indexes from V2/V3, now tenant first.
+DROP INDEX idx_assignments_status;
+DROP INDEX idx_assignments_due_date;
+DROP INDEX idx_assignments_subject_due_date;
+DROP INDEX idx_announcements_date;
+DROP INDEX idx_announcements_author_date;
+DROP INDEX idx_users_role;
+DROP INDEX idx_users_status;
+DROP INDEX idx_users_organization;
+DROP INDEX idx_tgs_teacher;
+DROP INDEX idx_student_details_grade_section;
+DROP INDEX idx_student_details_email;
+DROP INDEX idx_teacher_details_email;
+DROP INDEX idx_submissions_student_status;
+DROP INDEX idx_submissions_assignment_status;
+DROP INDEX idx_announcements_archive_date;
+DROP INDEX idx_announcements_archive_author_date;
+
+-- AssignmentRepository: findByStatus, countByStatus
+CREATE INDEX idx_assignments_tenant_status ON assignments (tenant_id, status);
+-- AssignmentRepository: findByDueDate, findUpcomingAssignments (due_date >= ? ORDER BY due_date)
+CREATE INDEX idx_assignments_tenant_due_date ON assignments (tenant_id, due_date);
+-- AssignmentRepository: findBySubject
+CREATE INDEX idx_assignments_tenant_subject_due_date ON assignments (tenant_id, subject, due_date);
+
+-- AnnouncementRepository: findByDate, findRecentAnnouncements (date >= ? ORDER BY date DESC)
+CREATE INDEX idx_announcements_tenant_date ON announcements (tenant_id, date);
+-- AnnouncementRepository: findByAuthor
+CREATE INDEX idx_announcements_tenant_author_date ON announcements (tenant_id, author, date);
+
+-- UserRepository: findByRole, countByRole / findByStatus, countByStatus / findByOrganization / countAllUsers.
+-- uk_users_email stays global: login looks users up by email before the tenant is known.
+CREATE INDEX idx_users_tenant_role ON users (tenant_id, role);
+CREATE INDEX idx_users_tenant_status ON users (tenant_id, status);
+CREATE INDEX idx_users_tenant_organization ON users (tenant_id, organization);
+
+-- TeacherGradeSectionRepo: findByTeacherIdentifier, deleteByTeacherIdentifier
+CREATE INDEX idx_tgs_tenant_teacher ON teacher_grade_section (tenant_id, teacher_identifier);
+
+-- Students by grade / section roster; StudentDetailsRepo: findFirstByEmail
+CREATE INDEX idx_student_details_tenant_grade_section ON student_details (tenant_id, grade_identifier, section_identifier);
+CREATE INDEX idx_student_details_tenant_email ON student_details (tenant_id, email);
+
+-- TeacherDetailsRepo: findFirstByEmail (dashboard teacher links)
+CREATE INDEX idx_teacher_details_tenant_email ON teacher_details (tenant_id, email);
+
+-- AssignmentSubmissionRepo: findForStudent, countByStatusForAssignment
+CREATE INDEX idx_submissions_tenant_student_status ON assignment_submissions (tenant_id, student_identifier, status);
+CREATE INDEX idx_submissions_tenant_assignment_status ON assignment_submissions (tenant_id, assignment_id, status);
+
+-- AnnouncementArchive.find; created on the parent, inherited by every partition
+CREATE INDEX idx_announcements_archive_tenant_date ON announcements_archive (tenant_id, date);
+CREATE INDEX idx_announcements_archive_tenant_author_date ON announcements_archive (tenant_id, author, date);
+
+-- ChangeJournalRepo: findBySeqGreaterThanOrderBySeq, findOldestSeq, findLatestSeq per tenant
+CREATE INDEX idx_change_journal_tenant_seq ON change_journal (tenant_id, seq);
@@ -0,0 +1,79 @@
+-- Running gradebook totals (Gradebook): one row per organization, grade, section and student
+-- and subject, updated by each grade write. The primary key leads with the tenant and the scope,
+-- so every gradebook read is one contiguous range. Bands count graded submissions by percentage
+-- of total points: A >= 90, B >= 80, C >= 70, D >= 60, F below.
+
+CREATE TABLE gradebook_aggregates (
+    tenant_id        BIGINT       NOT NULL,
+    scope            VARCHAR(16)  NOT NULL,
+    scope_identifier BIGINT       NOT NULL,
+    subject          VARCHAR(255) NOT NULL,
+    graded_count     BIGINT       NOT NULL,
+    score_sum        BIGINT       NOT NULL,
+    points_sum       BIGINT       NOT NULL,
+    band_a           BIGINT       NOT NULL,
+    band_b           BIGINT       NOT NULL,
+    band_c           BIGINT       NOT NULL,
+    band_d           BIGINT       NOT NULL,
+    band_f           BIGINT       NOT NULL,
+    PRIMARY KEY (tenant_id, scope, scope_identifier, subject)
+);
+
+-- Existing grades, aggregated once; from here on grade writes keep the totals current.
+-- per student
+INSERT INTO gradebook_aggregates (tenant_id, scope, scope_identifier, subject, graded_count, score_sum, points_sum,
+                                   band_a, band_b, band_c, band_d, band_f)
+SELECT s.tenant_id, 'STUDENT', s.student_identifier, a.subject, COUNT(*), SUM(s.score), SUM(a.total_points),
+       SUM(CASE WHEN s.score * 100 >= 90 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 80 * a.total_points AND s.score * 100 < 90 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 70 * a.total_points AND s.score * 100 < 80 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 60 * a.total_points AND s.score * 100 < 70 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 < 60 * a.total_points THEN 1 ELSE 0 END)
+FROM assignment_submissions s
+JOIN assignments a ON a.id = s.assignment_id
+WHERE s.status = 'GRADED' AND s.score IS NOT NULL AND s.student_identifier IS NOT NULL
+GROUP BY s.tenant_id, s.student_identifier, a.subject;
+
+-- per section, by the student's current section
+INSERT INTO gradebook_aggregates (tenant_id, scope, scope_identifier, subject, graded_count, score_sum, points_sum,
+                                   band_a, band_b, band_c, band_d, band_f)
+SELECT s.tenant_id, 'SECTION', d.section_identifier, a.subject, COUNT(*), SUM(s.score), SUM(a.total_points),
+       SUM(CASE WHEN s.score * 100 >= 90 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 80 * a.total_points AND s.score * 100 < 90 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 70 * a.total_points AND s.score * 100 < 80 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 60 * a.total_points AND s.score * 100 < 70 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 < 60 * a.total_points THEN 1 ELSE 0 END)
+FROM assignment_submissions s
+JOIN assignments a ON a.id = s.assignment_id
+JOIN student_details d ON d.identifier = s.student_identifier
+WHERE s.status = 'GRADED' AND s.score IS NOT NULL AND d.section_identifier IS NOT NULL
+GROUP BY s.tenant_id, d.section_identifier, a.subject;
+
+-- per grade
+INSERT INTO gradebook_aggregates (tenant_id, scope, scope_identifier, subject, graded_count, score_sum, points_sum,
+                                   band_a, band_b, band_c, band_d, band_f)
+SELECT s.tenant_id, 'GRADE', d.grade_identifier, a.subject, COUNT(*), SUM(s.score), SUM(a.total_points),
+       SUM(CASE WHEN s.score * 100 >= 90 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 80 * a.total_points AND s.score * 100 < 90 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 70 * a.total_points AND s.score * 100 < 80 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 60 * a.total_points AND s.score * 100 < 70 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 < 60 * a.total_points THEN 1 ELSE 0 END)
+FROM assignment_submissions s
+JOIN assignments a ON a.id = s.assignment_id
+JOIN student_details d ON d.identifier = s.student_identifier
+WHERE s.status = 'GRADED' AND s.score IS NOT NULL AND d.grade_identifier IS NOT NULL
+GROUP BY s.tenant_id, d.grade_identifier, a.subject;
+
+-- per organization
+INSERT INTO gradebook_aggregates (tenant_id, scope, scope_identifier, subject, graded_count, score_sum, points_sum,
+                                   band_a, band_b, band_c, band_d, band_f)
+SELECT s.tenant_id, 'ORGANIZATION', s.tenant_id, a.subject, COUNT(*), SUM(s.score), SUM(a.total_points),
+       SUM(CASE WHEN s.score * 100 >= 90 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 80 * a.total_points AND s.score * 100 < 90 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 70 * a.total_points AND s.score * 100 < 80 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 >= 60 * a.total_points AND s.score * 100 < 70 * a.total_points THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.score * 100 < 60 * a.total_points THEN 1 ELSE 0 END)
+FROM assignment_submissions s
+JOIN assignments a ON a.id = s.assignment_id
+WHERE s.status = 'GRADED' AND s.score IS NOT NULL AND s.tenant_id IS NOT NULL
+GROUP BY s.tenant_id, s.tenant_id, a.subject;
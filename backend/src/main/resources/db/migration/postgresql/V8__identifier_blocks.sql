@@ -0,0 +1,22 @@
+-- Block allocator behind IdentityGeneratorClass (Hibernate TableGenerator, pooled-lo): next_value is
+-- the first id of the next unclaimed block. Ids used to come from a per-JVM counter seeded with
+-- currentTimeMillis, which restarts and second instances could repeat.
+
+CREATE TABLE identifier_blocks (
+    name       VARCHAR(255) NOT NULL,
+    next_value BIGINT,
+    PRIMARY KEY (name)
+);
+
+-- Start above every id already handed out; each MAX is one index lookup.
+INSERT INTO identifier_blocks (name, next_value)
+SELECT 'identifier', COALESCE(MAX(identifier), 0) + 1
+FROM (SELECT MAX(identifier) AS identifier FROM users
+      UNION ALL SELECT MAX(identifier) FROM organizations
+      UNION ALL SELECT MAX(identifier) FROM grade
+      UNION ALL SELECT MAX(identifier) FROM section
+      UNION ALL SELECT MAX(identifier) FROM subjects
+      UNION ALL SELECT MAX(identifier) FROM student_details
+      UNION ALL SELECT MAX(identifier) FROM teacher_details
+      UNION ALL SELECT MAX(identifier) FROM teacher_grade_section
+      UNION ALL SELECT MAX(identifier) FROM assignment_submissions) used;
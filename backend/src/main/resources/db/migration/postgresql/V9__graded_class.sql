@@ -0,0 +1,13 @@
+-- The grade and section a submission's score was counted towards in gradebook_aggregates. Regrades
+-- and assignment edits withdraw the old score from these, not from the student's current class,
+-- so a student changing section leaves both sections' totals consistent.
+ALTER TABLE assignment_submissions ADD COLUMN graded_grade_identifier BIGINT;
+ALTER TABLE assignment_submissions ADD COLUMN graded_section_identifier BIGINT;
+
+-- V7 counted existing grades towards the student's class at the time; record that.
+UPDATE assignment_submissions
+SET graded_grade_identifier = (SELECT d.grade_identifier FROM student_details d
+                               WHERE d.identifier = assignment_submissions.student_identifier),
+    graded_section_identifier = (SELECT d.section_identifier FROM student_details d
+                                 WHERE d.identifier = assignment_submissions.student_identifier)
+WHERE status = 'GRADED';
@@ -0,0 +1,244 @@
+package com.nxtclass.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nxtclass.diagnostics.StatementBudget;
+import com.nxtclass.diagnostics.StatementCountingConfig;
+import com.nxtclass.entity.Subject;
+import com.nxtclass.entity.User;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.repository.SubjectRepository;
+import com.nxtclass.repository.UserRepository;
+import com.nxtclass.security.JwtService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets of the hot endpoints. Only statements Hibernate prepares on the request
+ * thread are counted: gradebook reads go through {@code JdbcTemplate}, so their budgets cover the
+ * entity lookups around them, not the aggregate query itself.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StatementCountingConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetTest {
+
+    private static final long TENANT = 1L;
+    private static final String ADMIN = "budget.admin@nxtclass.com";
+    private static final String TEACHER = "budget.teacher@nxtclass.com";
+    private static final String STUDENT = "budget.student@nxtclass.com";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SubjectRepository subjectRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserDetailsService userDetailsService;
+    @Autowired
+    private JwtService jwtService;
+
+    private String adminToken;
+    private String teacherToken;
+    private String studentToken;
+    private long teacherIdentifier;
+    private long studentIdentifier;
+    private long assignmentId;
+
+    @BeforeAll
+    void fixtures() throws Exception {
+        adminToken = user(ADMIN, UserRole.ORGADMIN);
+        teacherToken = user(TEACHER, UserRole.TEACHER);
+        studentToken = user(STUDENT, UserRole.STUDENT);
+
+        Map<String, Object> grade = new LinkedHashMap<>();
+        grade.put("grade", "Budget Grade");
+        grade.put("sections", List.of(Map.of("name", "A"), Map.of("name", "B")));
+        long gradeIdentifier = Long.parseLong(send(post("/api/grade/save"), adminToken, grade));
+        long sectionIdentifier = json(send(get("/api/grade/" + gradeIdentifier), adminToken, null))
+                .get("sections").get(0).get("identifier").asLong();
+
+        send(post("/api/subject-details/save"), adminToken,
+                List.of(Map.of("subject", "Mathematics"), Map.of("subject", "Science")));
+
+        Map<String, Object> student = new LinkedHashMap<>();
+        student.put("firstName", "Budget");
+        student.put("lastName", "Student");
+        student.put("email", STUDENT);
+        student.put("gradeIdentifier", gradeIdentifier);
+        student.put("sectionIdentifier", sectionIdentifier);
+        studentIdentifier = Long.parseLong(send(post("/api/student-details/save"), adminToken, student));
+
+        Map<String, Object> teacher = new LinkedHashMap<>();
+        teacher.put("firstName", "Budget");
+        teacher.put("lastName", "Teacher");
+        teacher.put("email", TEACHER);
+        teacher.put("teacherGradeLinking", List.of(Map.of("gradeIdentifier", gradeIdentifier)));
+        teacherIdentifier = Long.parseLong(send(post("/api/teacher-details/save"), adminToken, teacher));
+
+        Map<String, Object> assignment = new LinkedHashMap<>();
+        assignment.put("title", "Worksheet");
+        assignment.put("subject", "Mathematics");
+        assignment.put("dueDate", LocalDate.now().plusDays(7).toString());
+        assignment.put("totalPoints", 100);
+        assignment.put("gradeIdentifier", gradeIdentifier);
+        assignmentId = json(send(post("/api/assignments"), teacherToken, assignment)).get("id").asLong();
+
+        Map<String, Object> announcement = new LinkedHashMap<>();
+        announcement.put("title", "Sports day");
+        announcement.put("content", "Friday");
+        announcement.put("author", TEACHER);
+        announcement.put("date", LocalDate.now().toString());
+        send(post("/api/announcements"), teacherToken, announcement);
+    }
+
+    @Test
+    void gradeListFetchesSectionsInOneBatch() throws Exception {
+        perform(get("/api/grade/list"), adminToken)
+                .andExpect(StatementBudget.atMost(2).maxRepeats(1));
+    }
+
+    @Test
+    void subjectList() throws Exception {
+        perform(get("/api/subject-details/list"), adminToken)
+                .andExpect(StatementBudget.atMost(1));
+    }
+
+    @Test
+    void subjectSaveLoadsExistingRowsInOneQuery() throws Exception {
+        List<Map<String, Object>> subjects = subjectRepository.findAll().stream()
+                .filter(subject -> subject.getTenantId() == TENANT)
+                .map(Subject::getIdentifier)
+                .<Map<String, Object>>map(identifier -> Map.of("identifier", identifier, "subject", "Renamed " + identifier))
+                .toList();
+        perform(post("/api/subject-details/save").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(subjects)), adminToken)
+                .andExpect(StatementBudget.unlimited().maxRepeats(1));
+    }
+
+    @Test
+    void studentList() throws Exception {
+        perform(get("/api/student-details/list"), adminToken)
+                .andExpect(StatementBudget.atMost(1));
+    }
+
+    @Test
+    void teacherList() throws Exception {
+        perform(get("/api/teacher-details/list"), adminToken)
+                .andExpect(StatementBudget.atMost(1));
+    }
+
+    @Test
+    void teacherAssignments() throws Exception {
+        perform(get("/api/teacher-details/" + teacherIdentifier + "/assignments"), adminToken)
+                .andExpect(StatementBudget.atMost(2));
+    }
+
+    @Test
+    void upcomingAssignments() throws Exception {
+        perform(get("/api/assignments/upcoming"), studentToken)
+                .andExpect(StatementBudget.atMost(1));
+    }
+
+    @Test
+    void submissionSummary() throws Exception {
+        perform(get("/api/assignments/" + assignmentId + "/submissions/summary"), teacherToken)
+                .andExpect(StatementBudget.atMost(1));
+    }
+
+    @Test
+    void recentAnnouncements() throws Exception {
+        perform(get("/api/announcements/recent"), studentToken)
+                .andExpect(StatementBudget.atMost(1));
+    }
+
+    @Test
+    void mySubmissions() throws Exception {
+        perform(get("/api/submissions/mine"), studentToken)
+                .andExpect(StatementBudget.atMost(2));
+    }
+
+    @Test
+    void syncLoadsEachEntityTypeOnce() throws Exception {
+        // journal page + one multi-load per entity type
+        perform(get("/api/sync").param("since", "0"), adminToken)
+                .andExpect(StatementBudget.atMost(10).maxRepeats(1));
+    }
+
+    @Test
+    void myGradebook() throws Exception {
+        perform(get("/api/gradebook/mine"), studentToken)
+                .andExpect(StatementBudget.atMost(1));
+    }
+
+    @Test
+    void teachingGradebooks() throws Exception {
+        perform(get("/api/gradebook/teaching"), teacherToken)
+                .andExpect(StatementBudget.atMost(2));
+    }
+
+    @Test
+    void studentGradebook() throws Exception {
+        // the student, then the teacher and their links for the access check
+        perform(get("/api/gradebook/students/" + studentIdentifier), teacherToken)
+                .andExpect(StatementBudget.atMost(3));
+    }
+
+    private String user(String email, UserRole role) {
+        User user = userRepository.findByEmail(email).orElseGet(User::new);
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode("Admin@123"));
+        user.setRole(role);
+        user.setOrganization("NXT Class");
+        // no tenant is bound here, so the row has to name its own
+        user.setTenantId(TENANT);
+        userRepository.save(user);
+        return jwtService.generateToken(userDetailsService.loadUserByUsername(email), TENANT);
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request,
+                                  String token) throws Exception {
+        return mvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private String send(MockHttpServletRequestBuilder request, String token, Object body) throws Exception {
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(body));
+        }
+        return perform(request, token).andReturn().getResponse().getContentAsString();
+    }
+
+    private JsonNode json(String response) throws Exception {
+        return objectMapper.readTree(response);
+    }
+}
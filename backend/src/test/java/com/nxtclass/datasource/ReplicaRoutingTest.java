@@ -0,0 +1,168 @@
+package com.nxtclass.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routing against a primary and one replica, both embedded, with {@link LocalReplicaSnapshotter}
+ * standing in for replication. Each test starts from a fresh copy and a health check, so the
+ * replica is in rotation unless the test takes it out.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;"
+                + "DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.replicas[0].name=replica-1",
+        "app.datasource.routing.replicas[0].url=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;"
+                + "DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "app.datasource.routing.replicas[0].username=sa",
+        "app.datasource.routing.replicas[0].password=",
+        "app.datasource.routing.max-lag=5s",
+        "app.datasource.routing.sticky-window=1m",
+        // the tests run the checks themselves
+        "app.datasource.routing.health-check-interval=1h"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+    private static final String PRIMARY = "routing_primary";
+    private static final String REPLICA = "routing_replica";
+
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private HikariDataSource primaryDataSource;
+    @Autowired
+    private List<ReplicaHealth> replicaHealth;
+    @Autowired
+    private ReplicaHealthChecker replicaHealthChecker;
+    @Autowired
+    private ReplicaRoutingProperties properties;
+
+    private LocalReplicaSnapshotter snapshotter;
+    private ReplicaHealth replica;
+
+    @BeforeEach
+    void replicate() throws Exception {
+        snapshotter = new LocalReplicaSnapshotter(primaryDataSource, properties, replicaHealth);
+        replica = replicaHealth.get(0);
+        replicaHealthChecker.check();
+        snapshotter.snapshot();
+        replicaHealthChecker.check();
+        assertTrue(replica.isAvailable(), "replica should be in rotation after a fresh copy");
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromTheReplica() {
+        assertServedBy(REPLICA, true);
+    }
+
+    @Test
+    void writeTransactionsGoToThePrimary() {
+        assertServedBy(PRIMARY, false);
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() {
+        replicaJdbc().update("UPDATE " + ReplicaHealthChecker.HEARTBEAT_TABLE + " SET beat_millis = ?",
+                System.currentTimeMillis() - 60_000);
+        replicaHealthChecker.check();
+
+        assertFalse(replica.isAvailable());
+        assertServedBy(PRIMARY, true);
+    }
+
+    @Test
+    void replicaBeingReloadedIsSkipped() {
+        replica.suspend();
+        try {
+            assertServedBy(PRIMARY, true);
+            // the checker leaves it alone rather than putting it back
+            replicaHealthChecker.check();
+            assertFalse(replica.isAvailable());
+        } finally {
+            replica.resume();
+        }
+        assertServedBy(REPLICA, true);
+    }
+
+    @Test
+    void snapshotCopiesThePrimary() throws Exception {
+        replicaHealthChecker.check();
+        Long beat = jdbc.queryForObject("SELECT beat_millis FROM " + ReplicaHealthChecker.HEARTBEAT_TABLE, Long.class);
+
+        snapshotter.snapshot();
+
+        assertEquals(beat, replicaJdbc().queryForObject(
+                "SELECT beat_millis FROM " + ReplicaHealthChecker.HEARTBEAT_TABLE, Long.class));
+        assertFalse(replica.isSuspended());
+    }
+
+    @Test
+    void writerReadsTheirOwnWritesFromThePrimary() {
+        signIn("rw.writer@nxtclass.com");
+        assertServedBy(PRIMARY, false);
+        assertServedBy(PRIMARY, true);
+
+        signIn("rw.reader@nxtclass.com");
+        assertServedBy(REPLICA, true);
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinTheUser() {
+        signIn("rw.rollback@nxtclass.com");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            databaseUrl();
+        });
+
+        assertServedBy(REPLICA, true);
+    }
+
+    private void assertServedBy(String database, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        String url = transaction.execute(status -> databaseUrl());
+        assertTrue(url != null && url.contains(database), "expected " + database + " but was served by " + url);
+    }
+
+    private String databaseUrl() {
+        return jdbc.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL());
+    }
+
+    private JdbcTemplate replicaJdbc() {
+        ReplicaRoutingProperties.Replica config = properties.getReplicas().get(0);
+        return new JdbcTemplate(new DriverManagerDataSource(config.getUrl(), config.getUsername(), config.getPassword()));
+    }
+
+    private static void signIn(String user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+}
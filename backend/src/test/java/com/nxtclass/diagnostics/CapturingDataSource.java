@@ -0,0 +1,105 @@
+package com.nxtclass.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records the prepared statements executed on the current thread, with their bound values, while
+ * {@link #capture} runs. A {@code StatementInspector} only sees the SQL text, and EXPLAIN needs the
+ * values Hibernate bound, so statements are captured where they are executed.
+ */
+public class CapturingDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<List<Captured>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * @param sql        the statement as Hibernate prepared it
+     * @param parameters bound values by parameter index
+     */
+    public record Captured(String sql, Map<Integer, Object> parameters) {
+    }
+
+    public CapturingDataSource(DataSource target) {
+        super(target);
+    }
+
+    /**
+     * Runs {@code work} and returns every statement it executed on this thread, in order.
+     */
+    public static List<Captured> capture(Runnable work) {
+        List<Captured> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            work.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private static Connection connection(Connection target) {
+        return proxy(Connection.class, target, (method, args) -> {
+            Object result = invoke(method, target, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return statement((String) args[0], statement);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement statement(String sql, PreparedStatement target) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, target, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                List<Captured> captured = CAPTURED.get();
+                if (captured != null) {
+                    captured.add(new Captured(sql, new TreeMap<>(parameters)));
+                }
+            }
+            return invoke(method, target, args);
+        });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method, args));
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,120 @@
+package com.nxtclass.diagnostics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs EXPLAIN for the connected database and reduces the plan to what the check needs:
+ * whether the table was fully scanned, and the row estimate.
+ */
+class ExplainParser {
+    private static final Pattern H2_SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    record Plan(boolean fullScan, long rows, String raw) {
+    }
+
+    enum Vendor {
+        POSTGRESQL, MYSQL, H2;
+
+        static Vendor fromProductName(String productName) {
+            String name = productName.toLowerCase(Locale.ROOT);
+            if (name.contains("postgres")) {
+                return POSTGRESQL;
+            }
+            if (name.contains("mysql") || name.contains("mariadb")) {
+                return MYSQL;
+            }
+            if (name.contains("h2")) {
+                return H2;
+            }
+            throw new IllegalStateException("Query plan check does not support " + productName);
+        }
+
+        String explain(String sql) {
+            return switch (this) {
+                case POSTGRESQL -> "EXPLAIN (FORMAT JSON) " + sql;
+                case MYSQL -> "EXPLAIN FORMAT=JSON " + sql;
+                case H2 -> "EXPLAIN ANALYZE " + sql;
+            };
+        }
+
+        String analyze(String table) {
+            return switch (this) {
+                case POSTGRESQL -> "ANALYZE " + table;
+                case MYSQL -> "ANALYZE TABLE " + table;
+                case H2 -> "ANALYZE TABLE " + table;
+            };
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+
+    ExplainParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    Plan parse(Vendor vendor, String table, String output) throws Exception {
+        return switch (vendor) {
+            case POSTGRESQL -> parsePostgres(table, objectMapper.readTree(output));
+            case MYSQL -> parseMySql(table, objectMapper.readTree(output));
+            case H2 -> parseH2(table, output);
+        };
+    }
+
+    private Plan parsePostgres(String table, JsonNode root) {
+        JsonNode plan = root.get(0).get("Plan");
+        return new Plan(postgresSeqScan(plan, table), plan.path("Plan Rows").asLong(), root.toString());
+    }
+
+    private boolean postgresSeqScan(JsonNode node, String table) {
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && table.equals(node.path("Relation Name").asText())) {
+            return true;
+        }
+        for (JsonNode child : node.path("Plans")) {
+            if (postgresSeqScan(child, table)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Plan parseMySql(String table, JsonNode root) {
+        long[] rows = {0};
+        boolean fullScan = mySqlFullScan(root, table, rows);
+        return new Plan(fullScan, rows[0], root.toString());
+    }
+
+    private boolean mySqlFullScan(JsonNode node, String table, long[] rows) {
+        boolean fullScan = false;
+        if (node.isObject()) {
+            if (table.equals(node.path("table_name").asText())) {
+                rows[0] = Math.max(rows[0], node.path("rows_examined_per_scan").asLong());
+                fullScan = "ALL".equals(node.path("access_type").asText());
+            }
+            var fields = node.fields();
+            while (fields.hasNext()) {
+                fullScan |= mySqlFullScan(fields.next().getValue(), table, rows);
+            }
+        } else if (node.isArray()) {
+            for (JsonNode child : node) {
+                fullScan |= mySqlFullScan(child, table, rows);
+            }
+        }
+        return fullScan;
+    }
+
+    private Plan parseH2(String table, String output) {
+        String normalized = output.toLowerCase(Locale.ROOT);
+        boolean fullScan = normalized.contains("." + table + ".tablescan");
+        long rows = 0;
+        Matcher matcher = H2_SCAN_COUNT.matcher(output);
+        while (matcher.find()) {
+            rows = Math.max(rows, Long.parseLong(matcher.group(1)));
+        }
+        return new Plan(fullScan, rows, output);
+    }
+}
@@ -0,0 +1,133 @@
+package com.nxtclass.diagnostics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds skewed, realistic volumes for the plan check: most assignments are graded and in the
+ * past, most users are students, and announcements span three years. Rows are spread over
+ * {@value #TENANTS} tenants, with tenant 1 a large district holding 40% of every table.
+ */
+class PlanCheckSeeder {
+    private static final Logger log = LoggerFactory.getLogger(PlanCheckSeeder.class);
+    private static final int BATCH_SIZE = 1000;
+    static final int TENANTS = 20;
+
+    private final JdbcTemplate jdbc;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    PlanCheckSeeder(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    record Volumes(long users, long assignments, long announcements, long teacherLinks, long submissions) {
+    }
+
+    /**
+     * Tenant of the {@code index}-th row of a table; assignment ids start at 1, so assignment
+     * {@code id} belongs to {@code tenant(id - 1)}.
+     */
+    static long tenant(long index) {
+        return index % 5 < 2 ? 1 : 2 + (index / 5) % (TENANTS - 1);
+    }
+
+    void seed(Volumes volumes, LocalDate today) {
+        if (count("users") < volumes.users()) {
+            seedUsers(volumes.users());
+        }
+        if (count("assignments") < volumes.assignments()) {
+            seedAssignments(volumes.assignments(), today);
+        }
+        if (count("announcements") < volumes.announcements()) {
+            seedAnnouncements(volumes.announcements(), today);
+        }
+        if (count("teacher_grade_section") < volumes.teacherLinks()) {
+            seedTeacherLinks(volumes.teacherLinks());
+        }
+        if (count("assignment_submissions") < volumes.submissions()) {
+            seedSubmissions(volumes.submissions());
+        }
+    }
+
+    private long count(String table) {
+        Long count = jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private void seedUsers(long total) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(total, "INSERT INTO users (identifier, name, email, password, role, status, organization, created_at, updated_at, "
+                + "tenant_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", i -> new Object[]{
+                1_000_000L + i, "User " + i, "user" + i + "@example.com", "x",
+                i % 50 == 0 ? "ORGADMIN" : i % 50 < 3 ? "TEACHER" : "STUDENT",
+                random.nextInt(100) < 5 ? "INACTIVE" : "ACTIVE",
+                "Org " + random.nextInt(20), now, now, tenant(i)});
+    }
+
+    private void seedAssignments(long total, LocalDate today) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(total, "INSERT INTO assignments (title, subject, due_date, status, total_points, created_at, updated_at, tenant_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", i -> {
+            int roll = random.nextInt(100);
+            String status = roll < 5 ? "PENDING" : roll < 20 ? "SUBMITTED" : "GRADED";
+            // ~3% due in the next 60 days, the rest spread over the last three years
+            LocalDate due = random.nextInt(30) == 0 ? today.plusDays(random.nextInt(60)) : today.minusDays(1 + random.nextInt(1095));
+            return new Object[]{"Assignment " + i, "Subject " + random.nextInt(50), Date.valueOf(due), status, 100, now, now,
+                    tenant(i)};
+        });
+    }
+
+    private void seedAnnouncements(long total, LocalDate today) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(total, "INSERT INTO announcements (title, content, author, date, created_at, updated_at, tenant_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", i -> new Object[]{
+                "Announcement " + i, "Body of announcement " + i, "Author " + random.nextInt(100),
+                Date.valueOf(today.minusDays(random.nextInt(1095))), now, now, tenant(i)});
+    }
+
+    private void seedTeacherLinks(long total) {
+        batch(total, "INSERT INTO teacher_grade_section (identifier, teacher_identifier, grade_identifier, section_identifier, "
+                + "tenant_id) VALUES (?, ?, ?, ?, ?)", i -> new Object[]{
+                2_000_000L + i, (long) random.nextInt(2000), (long) random.nextInt(12), (long) random.nextInt(60), tenant(i)});
+    }
+
+    private void seedSubmissions(long total) {
+        // 40 students per published assignment, most of them already graded
+        batch(total, "INSERT INTO assignment_submissions (identifier, assignment_id, student_identifier, status, tenant_id) "
+                + "VALUES (?, ?, ?, ?, ?)", i -> {
+            int roll = random.nextInt(100);
+            String status = roll < 10 ? "PENDING" : roll < 30 ? "SUBMITTED" : "GRADED";
+            // a submission belongs to its assignment's tenant
+            return new Object[]{3_000_000L + i, 1 + i / 40, (i % 40) * 1000 + (i / 40) % 1000, status, tenant(i / 40)};
+        });
+    }
+
+    private void batch(long total, String sql, RowFactory rows) {
+        log.info("Seeding {} rows: {}", total, sql.substring(0, sql.indexOf('(')).trim());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long i = 0; i < total; i++) {
+            batch.add(rows.row(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbc.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate(sql, batch);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object[] row(long index);
+    }
+}
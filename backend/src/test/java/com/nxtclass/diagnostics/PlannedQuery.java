@@ -0,0 +1,23 @@
+package com.nxtclass.diagnostics;
+
+import java.util.function.Consumer;
+
+/**
+ * One repository method, called with sample arguments, and the plan its statements must keep.
+ *
+ * @param method        repository method, as {@code Repository.method}
+ * @param table         table the method reads; a full scan of it fails the check when {@code requireIndex}
+ * @param tenant        tenant the call runs as, or null for a root session (login)
+ * @param call          invokes the method; it runs in a transaction that is rolled back
+ * @param requireIndex  whether a full scan of {@code table} is a regression
+ * @param maxRows       estimated (or, on H2, scanned) row budget
+ */
+record PlannedQuery(
+        String method,
+        String table,
+        Long tenant,
+        Consumer<QueryPlanCatalog.Repositories> call,
+        boolean requireIndex,
+        long maxRows
+) {
+}
@@ -0,0 +1,105 @@
+package com.nxtclass.diagnostics;
+
+import com.nxtclass.entity.AssignmentStatus;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.entity.UserStatus;
+import com.nxtclass.repository.AnnouncementRepository;
+import com.nxtclass.repository.AssignmentRepository;
+import com.nxtclass.repository.AssignmentSubmissionRepo;
+import com.nxtclass.repository.TeacherGradeSectionRepo;
+import com.nxtclass.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The calls checked by {@link QueryPlanTest}, one per derived or {@code @Query} method of the
+ * covered repositories. Sample values match the distribution seeded by {@link PlanCheckSeeder},
+ * so selective predicates really are selective. Adding a repository method without an entry
+ * here fails the check. Requests run with a tenant, so calls run as a small tenant next to the
+ * 40% district and get the {@code tenant_id} predicate Hibernate adds; only login's lookup by
+ * email runs as root.
+ */
+final class QueryPlanCatalog {
+
+    static final Map<Class<?>, String> COVERED_REPOSITORIES = Map.of(
+            AssignmentRepository.class, "AssignmentRepository",
+            AnnouncementRepository.class, "AnnouncementRepository",
+            UserRepository.class, "UserRepository",
+            TeacherGradeSectionRepo.class, "TeacherGradeSectionRepo",
+            AssignmentSubmissionRepo.class, "AssignmentSubmissionRepo"
+    );
+
+    record Repositories(AssignmentRepository assignments,
+                        AnnouncementRepository announcements,
+                        UserRepository users,
+                        TeacherGradeSectionRepo teacherLinks,
+                        AssignmentSubmissionRepo submissions) {
+    }
+
+    private QueryPlanCatalog() {
+    }
+
+    static List<PlannedQuery> queries(PlanCheckSeeder.Volumes volumes, LocalDate today) {
+        long assignments = volumes.assignments();
+        long announcements = volumes.announcements();
+        long users = volumes.users();
+        Long tenant = 7L;
+        // submission tenants follow their assignment: assignment 17 is the 17th row
+        Long submissionTenant = PlanCheckSeeder.tenant(16);
+
+        return List.of(
+                new PlannedQuery("AssignmentRepository.findByStatus", "assignments", tenant,
+                        r -> r.assignments().findByStatus(AssignmentStatus.PENDING), true, assignments / 10),
+                new PlannedQuery("AssignmentRepository.findBySubject", "assignments", tenant,
+                        r -> r.assignments().findBySubject("Subject 7"), true, assignments / 20),
+                new PlannedQuery("AssignmentRepository.findByDueDate", "assignments", tenant,
+                        r -> r.assignments().findByDueDate(today), true, assignments / 100),
+                new PlannedQuery("AssignmentRepository.findUpcomingAssignments", "assignments", tenant,
+                        r -> r.assignments().findUpcomingAssignments(today), true, assignments / 10),
+                new PlannedQuery("AssignmentRepository.countByStatus", "assignments", tenant,
+                        r -> r.assignments().countByStatus(AssignmentStatus.PENDING), true, assignments / 10),
+
+                new PlannedQuery("AnnouncementRepository.findByAuthor", "announcements", tenant,
+                        r -> r.announcements().findByAuthor("Author 3"), true, announcements / 20),
+                new PlannedQuery("AnnouncementRepository.findByDate", "announcements", tenant,
+                        r -> r.announcements().findByDate(today), true, announcements / 100),
+                new PlannedQuery("AnnouncementRepository.findRecentAnnouncements", "announcements", tenant,
+                        r -> r.announcements().findRecentAnnouncements(today.minusDays(30)), true, announcements / 10),
+
+                new PlannedQuery("UserRepository.findByEmail", "users", null,
+                        r -> r.users().findByEmail("user42@example.com"), true, 1),
+                new PlannedQuery("UserRepository.findByRole", "users", tenant,
+                        r -> r.users().findByRole(UserRole.TEACHER), true, users / 10),
+                new PlannedQuery("UserRepository.findByStatus", "users", tenant,
+                        r -> r.users().findByStatus(UserStatus.INACTIVE), true, users / 10),
+                new PlannedQuery("UserRepository.findByOrganization", "users", tenant,
+                        r -> r.users().findByOrganization("Org 3"), true, users / 10),
+                new PlannedQuery("UserRepository.countByRole", "users", tenant,
+                        r -> r.users().countByRole(UserRole.TEACHER), true, users / 10),
+                new PlannedQuery("UserRepository.countByStatus", "users", tenant,
+                        r -> r.users().countByStatus(UserStatus.INACTIVE), true, users / 10),
+                new PlannedQuery("UserRepository.countAllUsers", "users", tenant,
+                        r -> r.users().countAllUsers(), true, users / 10),
+
+                new PlannedQuery("TeacherGradeSectionRepo.findByTeacherIdentifier", "teacher_grade_section", tenant,
+                        r -> r.teacherLinks().findByTeacherIdentifier(17L), true, 50),
+                new PlannedQuery("TeacherGradeSectionRepo.deleteByTeacherIdentifier", "teacher_grade_section", tenant,
+                        r -> r.teacherLinks().deleteByTeacherIdentifier(17L), true, 50),
+
+                new PlannedQuery("AssignmentSubmissionRepo.findForStudent", "assignment_submissions", submissionTenant,
+                        r -> r.submissions().findForStudent(17017L, AssignmentStatus.PENDING), true, 50),
+                new PlannedQuery("AssignmentSubmissionRepo.countByStatusForAssignment", "assignment_submissions", submissionTenant,
+                        r -> r.submissions().countByStatusForAssignment(17L), true, 100),
+                new PlannedQuery("AssignmentSubmissionRepo.findStudentIdentifiersByAssignmentId", "assignment_submissions", submissionTenant,
+                        r -> r.submissions().findStudentIdentifiersByAssignmentId(17L), true, 100),
+                new PlannedQuery("AssignmentSubmissionRepo.findForUpdate", "assignment_submissions", submissionTenant,
+                        r -> r.submissions().findForUpdate(3_000_640L), true, 1),
+                new PlannedQuery("AssignmentSubmissionRepo.findGradedForAssignment", "assignment_submissions", submissionTenant,
+                        r -> r.submissions().findGradedForAssignment(17L), true, 100),
+                new PlannedQuery("AssignmentSubmissionRepo.deleteByAssignmentId", "assignment_submissions", submissionTenant,
+                        r -> r.submissions().deleteByAssignmentId(17L), true, 100)
+        );
+    }
+}
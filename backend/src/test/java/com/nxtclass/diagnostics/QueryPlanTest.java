@@ -0,0 +1,197 @@
+package com.nxtclass.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nxtclass.repository.AnnouncementRepository;
+import com.nxtclass.repository.AssignmentRepository;
+import com.nxtclass.repository.AssignmentSubmissionRepo;
+import com.nxtclass.repository.TeacherGradeSectionRepo;
+import com.nxtclass.repository.UserRepository;
+import com.nxtclass.tenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query-plan regression check. Seeds realistic volumes, calls every derived and {@code @Query}
+ * method of the hot-path repositories, and EXPLAINs the statements Hibernate actually executed,
+ * with the values it bound. A query that must use an index and scans its table, or whose row
+ * estimate exceeds the budget, fails. Runs on its own embedded database; point
+ * {@code spring.datasource.*} (and {@code spring.flyway.locations}) at a real MySQL or Postgres
+ * instance to check its planner instead.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:plancheck;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;"
+        + "DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH")
+@ActiveProfiles("test")
+@Import(QueryPlanTest.CaptureStatements.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final PlanCheckSeeder.Volumes VOLUMES = new PlanCheckSeeder.Volumes(50_000, 100_000, 50_000, 20_000, 200_000);
+
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+    @Autowired
+    private AnnouncementRepository announcementRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TeacherGradeSectionRepo teacherGradeSectionRepo;
+    @Autowired
+    private AssignmentSubmissionRepo assignmentSubmissionRepo;
+
+    private final LocalDate today = LocalDate.now();
+    private ExplainParser.Vendor vendor;
+    private ExplainParser parser;
+    private List<PlannedQuery> queries;
+
+    @TestConfiguration
+    static class CaptureStatements {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CapturingDataSource)
+                            ? new CapturingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        String productName = jdbc.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        vendor = ExplainParser.Vendor.fromProductName(Objects.requireNonNull(productName));
+        parser = new ExplainParser(objectMapper);
+
+        new PlanCheckSeeder(jdbc).seed(VOLUMES, today);
+        queries = QueryPlanCatalog.queries(VOLUMES, today);
+        queries.stream().map(PlannedQuery::table).distinct().forEach(table -> jdbc.execute(vendor.analyze(table)));
+    }
+
+    @Test
+    void everyRepositoryMethodHasAPlanCheck() {
+        Set<String> covered = queries.stream().map(PlannedQuery::method).collect(Collectors.toSet());
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<Class<?>, String> repository : QueryPlanCatalog.COVERED_REPOSITORIES.entrySet()) {
+            for (Method method : repository.getKey().getDeclaredMethods()) {
+                String name = repository.getValue() + "." + method.getName();
+                if (!method.isDefault() && !covered.contains(name)) {
+                    missing.add(name);
+                }
+            }
+        }
+        assertTrue(missing.isEmpty(), "No plan check registered in QueryPlanCatalog for " + missing);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> hotPathQueriesKeepTheirPlans() {
+        QueryPlanCatalog.Repositories repositories = new QueryPlanCatalog.Repositories(assignmentRepository,
+                announcementRepository, userRepository, teacherGradeSectionRepo, assignmentSubmissionRepo);
+        return queries.stream().map(query -> DynamicTest.dynamicTest(query.method(), () -> {
+            List<String> failures = explain(query, repositories);
+            assertTrue(failures.isEmpty(), String.join("\n", failures));
+        }));
+    }
+
+    /**
+     * Calls the method in a transaction that is rolled back, so deletes leave the seeded rows in
+     * place, and EXPLAINs each statement that touched the method's table before the rollback.
+     */
+    private List<String> explain(PlannedQuery query, QueryPlanCatalog.Repositories repositories) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // the session takes its tenant when the transaction opens it
+        TenantContext.set(query.tenant());
+        try {
+            return transaction.execute(status -> {
+                status.setRollbackOnly();
+                List<CapturingDataSource.Captured> statements = CapturingDataSource.capture(() -> {
+                    query.call().accept(repositories);
+                    entityManager.flush();
+                });
+                List<String> failures = new ArrayList<>();
+                List<CapturingDataSource.Captured> reads = statements.stream()
+                        .filter(statement -> statement.sql().toLowerCase(Locale.ROOT).contains(query.table()))
+                        .toList();
+                if (reads.isEmpty()) {
+                    failures.add(query.method() + ": executed no statement on " + query.table() + " " + statements);
+                }
+                for (CapturingDataSource.Captured statement : reads) {
+                    ExplainParser.Plan plan = plan(query.table(), statement);
+                    if (query.requireIndex() && plan.fullScan()) {
+                        failures.add(query.method() + ": full scan of " + query.table() + "\n" + statement.sql()
+                                + "\n" + plan.raw());
+                    } else if (plan.rows() > query.maxRows()) {
+                        failures.add(query.method() + ": estimated rows " + plan.rows() + " over budget "
+                                + query.maxRows() + "\n" + statement.sql());
+                    }
+                }
+                return failures;
+            });
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private ExplainParser.Plan plan(String table, CapturingDataSource.Captured statement) {
+        String output = jdbc.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement(vendor.explain(statement.sql()))) {
+                for (Map.Entry<Integer, Object> parameter : statement.parameters().entrySet()) {
+                    explain.setObject(parameter.getKey(), parameter.getValue());
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet rows = explain.executeQuery()) {
+                    while (rows.next()) {
+                        lines.add(rows.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            }
+        });
+        try {
+            return parser.parse(vendor, table, output);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not read the plan of " + statement.sql(), e);
+        }
+    }
+}
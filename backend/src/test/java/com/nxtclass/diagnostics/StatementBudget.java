@@ -0,0 +1,67 @@
+package com.nxtclass.diagnostics;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MockMvc expectation on how many SQL statements a request issued, as counted by
+ * {@link StatementCounter} (register it with {@link StatementCountingConfig}):
+ * {@code .andExpect(StatementBudget.atMost(2).maxRepeats(1))}. A SELECT that runs more than
+ * {@code maxRepeats} times with different parameters is reported as an N+1.
+ */
+public final class StatementBudget implements ResultMatcher {
+
+    private static final int DEFAULT_MAX_REPEATS = 3;
+
+    private final int max;
+    private final int maxRepeats;
+
+    private StatementBudget(int max, int maxRepeats) {
+        this.max = max;
+        this.maxRepeats = maxRepeats;
+    }
+
+    /**
+     * @param max maximum statements for the request
+     */
+    public static StatementBudget atMost(int max) {
+        return new StatementBudget(max, DEFAULT_MAX_REPEATS);
+    }
+
+    /**
+     * No limit on the total, only on repeats.
+     */
+    public static StatementBudget unlimited() {
+        return new StatementBudget(-1, DEFAULT_MAX_REPEATS);
+    }
+
+    public StatementBudget maxRepeats(int maxRepeats) {
+        return new StatementBudget(max, maxRepeats);
+    }
+
+    @Override
+    public void match(MvcResult result) {
+        StatementCounter.Scope scope = (StatementCounter.Scope) result.getRequest().getAttribute(StatementCounter.ATTRIBUTE);
+        if (scope == null) {
+            throw new AssertionError("No statement count for " + result.getRequest().getRequestURI()
+                    + "; is StatementCountingConfig imported?");
+        }
+        List<String> problems = new ArrayList<>();
+        if (max >= 0 && scope.total() > max) {
+            problems.add(scope.total() + " statements, budget " + max);
+        }
+        for (Map.Entry<String, Integer> select : scope.selects().entrySet()) {
+            if (select.getValue() > maxRepeats) {
+                problems.add("repeated " + select.getValue() + "x (limit " + maxRepeats + "): " + select.getKey());
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new AssertionError(result.getRequest().getRequestURI() + " over statement budget: "
+                    + String.join("; ", problems));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.nxtclass.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Hibernate {@link StatementInspector} that counts the statements prepared on the request thread
+ * between a handler's {@code preHandle} and {@code afterCompletion}; the count is left on the request
+ * for {@link StatementBudget} to check. SQL reaches the inspector with {@code ?} placeholders, so the
+ * same SELECT run with different parameters is counted under one key: the N+1 signature.
+ * <p>
+ * Statements issued through {@code JdbcTemplate} and statements Hibernate prepares on other threads
+ * (the dashboard's parallel parts) never reach the inspector and are not counted.
+ */
+public class StatementCounter implements StatementInspector, HandlerInterceptor {
+
+    static final String ATTRIBUTE = StatementCounter.class.getName() + ".scope";
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    static final class Scope {
+        private int total;
+        private final Map<String, Integer> selects = new HashMap<>();
+
+        int total() {
+            return total;
+        }
+
+        Map<String, Integer> selects() {
+            return selects;
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.total++;
+            if (sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                scope.selects.merge(sql.toLowerCase(Locale.ROOT), 1, Integer::sum);
+            }
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            Scope scope = new Scope();
+            CURRENT.set(scope);
+            request.setAttribute(ATTRIBUTE, scope);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        CURRENT.remove();
+    }
+}
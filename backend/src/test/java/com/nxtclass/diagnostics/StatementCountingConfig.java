@@ -0,0 +1,28 @@
+package com.nxtclass.diagnostics;
+
+import com.nxtclass.config.StatementInspectors;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Counts each request's statements for {@link StatementBudget}; import it into a
+ * {@code @SpringBootTest}.
+ */
+@TestConfiguration
+public class StatementCountingConfig implements WebMvcConfigurer {
+
+    private final StatementCounter counter = new StatementCounter();
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> StatementInspectors.register(properties, counter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(counter);
+    }
+}
@@ -0,0 +1,193 @@
+package com.nxtclass.gradebook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nxtclass.entity.User;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.repository.UserRepository;
+import com.nxtclass.security.JwtService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The running totals kept by grade writes must match a {@link Gradebook#rebuild} from the graded
+ * submissions, after first grades, regrades, a student changing section and an assignment whose
+ * subject and total points are edited. Runs in its own tenant, so other tests' rows stay out of it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GradebookConsistencyTest {
+
+    private static final long TENANT = 1000L;
+    private static final String ADMIN = "gradebook.admin@nxtclass.com";
+    private static final String TEACHER = "gradebook.teacher@nxtclass.com";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private Gradebook gradebook;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserDetailsService userDetailsService;
+    @Autowired
+    private JwtService jwtService;
+
+    private String adminToken;
+    private String teacherToken;
+    private long gradeIdentifier;
+    private long sectionA;
+    private long sectionB;
+
+    @BeforeAll
+    void fixtures() throws Exception {
+        adminToken = user(ADMIN, UserRole.ORGADMIN);
+        teacherToken = user(TEACHER, UserRole.TEACHER);
+
+        Map<String, Object> grade = new LinkedHashMap<>();
+        grade.put("grade", "Gradebook Grade");
+        grade.put("sections", List.of(Map.of("name", "A"), Map.of("name", "B")));
+        gradeIdentifier = Long.parseLong(send(post("/api/grade/save"), adminToken, grade));
+        JsonNode sections = objectMapper.readTree(send(get("/api/grade/" + gradeIdentifier), adminToken, null)).get("sections");
+        sectionA = sections.get(0).get("identifier").asLong();
+        sectionB = sections.get(1).get("identifier").asLong();
+
+        Map<String, Object> teacher = new LinkedHashMap<>();
+        teacher.put("firstName", "Gradebook");
+        teacher.put("lastName", "Teacher");
+        teacher.put("email", TEACHER);
+        teacher.put("teacherGradeLinking", List.of(Map.of("gradeIdentifier", gradeIdentifier)));
+        send(post("/api/teacher-details/save"), adminToken, teacher);
+    }
+
+    @Test
+    void incrementalTotalsMatchARebuild() throws Exception {
+        long first = student("first", sectionA);
+        long second = student("second", sectionA);
+        long third = student("third", sectionB);
+        Map<String, Object> quiz = assignment("Quiz", "Mathematics", 50);
+        long quizId = objectMapper.readTree(send(post("/api/assignments"), teacherToken, quiz)).get("id").asLong();
+        long essayId = objectMapper.readTree(send(post("/api/assignments"), teacherToken,
+                assignment("Essay", "English", 20))).get("id").asLong();
+
+        grade(quizId, first, 40);
+        grade(quizId, second, 20);
+        grade(quizId, third, 45);
+        grade(essayId, first, 19);
+        grade(essayId, third, 11);
+
+        // a regrade that changes the band
+        grade(quizId, first, 48);
+
+        // the old score stays counted in section A until the student is graded again, in section B
+        Map<String, Object> moved = studentBody("second", sectionB);
+        moved.put("identifier", second);
+        send(put("/api/student-details/update"), adminToken, moved);
+        grade(essayId, second, 7);
+        grade(quizId, second, 30);
+
+        // every graded submission moves to the new subject and is re-banded against the new points
+        quiz.put("subject", "Science");
+        quiz.put("totalPoints", 60);
+        send(put("/api/assignments/" + quizId), teacherToken, quiz);
+
+        List<Map<String, Object>> incremental = totals();
+        assertFalse(incremental.isEmpty());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> gradebook.rebuild(TENANT));
+        assertEquals(totals(), incremental);
+    }
+
+    // rows withdrawn down to zero (the old subject) are left behind by deltas but not rebuilt
+    private List<Map<String, Object>> totals() {
+        return jdbc.queryForList("SELECT * FROM gradebook_aggregates WHERE tenant_id = ? AND graded_count <> 0 "
+                + "ORDER BY scope, scope_identifier, subject", TENANT);
+    }
+
+    private void grade(long assignmentId, long studentIdentifier, int score) throws Exception {
+        Long submission = jdbc.queryForObject("SELECT identifier FROM assignment_submissions "
+                + "WHERE assignment_id = ? AND student_identifier = ?", Long.class, assignmentId, studentIdentifier);
+        send(put("/api/submissions/" + submission + "/grade").param("score", Integer.toString(score)), teacherToken, null);
+    }
+
+    private long student(String name, long sectionIdentifier) throws Exception {
+        return Long.parseLong(send(post("/api/student-details/save"), adminToken, studentBody(name, sectionIdentifier)));
+    }
+
+    private Map<String, Object> studentBody(String name, long sectionIdentifier) {
+        Map<String, Object> student = new LinkedHashMap<>();
+        student.put("firstName", name);
+        student.put("lastName", "Student");
+        student.put("email", "gradebook." + name + "@nxtclass.com");
+        student.put("gradeIdentifier", gradeIdentifier);
+        student.put("sectionIdentifier", sectionIdentifier);
+        return student;
+    }
+
+    private Map<String, Object> assignment(String title, String subject, int totalPoints) {
+        Map<String, Object> assignment = new LinkedHashMap<>();
+        assignment.put("title", title);
+        assignment.put("subject", subject);
+        assignment.put("dueDate", LocalDate.now().plusDays(7).toString());
+        assignment.put("totalPoints", totalPoints);
+        assignment.put("gradeIdentifier", gradeIdentifier);
+        return assignment;
+    }
+
+    private String user(String email, UserRole role) {
+        User user = userRepository.findByEmail(email).orElseGet(User::new);
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode("Admin@123"));
+        user.setRole(role);
+        user.setOrganization("NXT Class");
+        // no tenant is bound here, so the row has to name its own
+        user.setTenantId(TENANT);
+        userRepository.save(user);
+        return jwtService.generateToken(userDetailsService.loadUserByUsername(email), TENANT);
+    }
+
+    private String send(MockHttpServletRequestBuilder request, String token, Object body) throws Exception {
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(body));
+        }
+        return mvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.nxtclass.ratelimit;
+
+import com.nxtclass.entity.User;
+import com.nxtclass.entity.UserRole;
+import com.nxtclass.repository.UserRepository;
+import com.nxtclass.security.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The filter in the security chain: a user over the read budget gets 429 with {@code Retry-After},
+ * and the rejection is counted. Reads refill one token every 100 s, so the wait is 100 s whatever
+ * the test's own timing.
+ */
+@SpringBootTest(properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.read.user.capacity=2",
+        "app.rate-limit.read.user.refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RateLimitFilterTest {
+
+    private static final long TENANT = 1L;
+    private static final String USER = "ratelimit.teacher@nxtclass.com";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private MeterRegistry registry;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserDetailsService userDetailsService;
+    @Autowired
+    private JwtService jwtService;
+
+    private String token;
+
+    @BeforeAll
+    void fixtures() {
+        User user = userRepository.findByEmail(USER).orElseGet(User::new);
+        user.setName(USER);
+        user.setEmail(USER);
+        user.setPassword(passwordEncoder.encode("Admin@123"));
+        user.setRole(UserRole.TEACHER);
+        user.setOrganization("NXT Class");
+        // no tenant is bound here, so the row has to name its own
+        user.setTenantId(TENANT);
+        userRepository.save(user);
+        token = jwtService.generateToken(userDetailsService.loadUserByUsername(USER), TENANT);
+    }
+
+    @Test
+    void overBudgetGets429WithRetryAfter() throws Exception {
+        double rejectedBefore = rejected();
+
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(get("/api/subject-details/list").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+        mvc.perform(get("/api/subject-details/list").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "100"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.path").value("/api/subject-details/list"));
+
+        assertEquals(rejectedBefore + 1, rejected());
+    }
+
+    private double rejected() {
+        return registry.get("ratelimit.rejected").tags("route", "read", "scope", "user").counter().count();
+    }
+}
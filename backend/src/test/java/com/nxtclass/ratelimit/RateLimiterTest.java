@@ -0,0 +1,92 @@
+package com.nxtclass.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Read requests get one token per user, refilled every second. Time is passed in, starting from
+ * the real clock so the limiter's own once-a-second inline sweep stays out of the way.
+ */
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration IDLE = Duration.ofSeconds(10);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final long t = System.nanoTime();
+
+    @Test
+    void userBudgetRejectsWithTheWaitForTheNextToken() {
+        RateLimiter limiter = limiter(10, null);
+        assertTrue(limiter.acquire(RouteClass.READ, "ana", null, t).admitted());
+
+        RateLimiter.Decision decision = limiter.acquire(RouteClass.READ, "ana", null, t + SECOND / 4);
+        assertEquals(RateLimiter.Scope.USER, decision.scope());
+        assertEquals(SECOND * 3 / 4, decision.retryAfterNanos());
+        assertEquals(1, rejected("user"));
+
+        assertTrue(limiter.acquire(RouteClass.READ, "ana", null, t + SECOND).admitted());
+    }
+
+    @Test
+    void tenantBudgetIsSharedByItsUsers() {
+        RateLimiter limiter = limiter(10, new RateLimitProperties.Budget(2, 1));
+
+        assertTrue(limiter.acquire(RouteClass.READ, "ana", 7L, t).admitted());
+        assertTrue(limiter.acquire(RouteClass.READ, "ben", 7L, t).admitted());
+        RateLimiter.Decision decision = limiter.acquire(RouteClass.READ, "cho", 7L, t);
+        assertEquals(RateLimiter.Scope.TENANT, decision.scope());
+        assertEquals(1, rejected("tenant"));
+        // another organization has its own budget
+        assertTrue(limiter.acquire(RouteClass.READ, "dev", 8L, t).admitted());
+    }
+
+    @Test
+    void fullMapSendsNewKeysToTheOverflowBucketUntilIdleBucketsAreEvicted() {
+        RateLimiter limiter = limiter(2, null);
+        assertTrue(limiter.acquire(RouteClass.READ, "ana", null, t).admitted());
+        assertTrue(limiter.acquire(RouteClass.READ, "ben", null, t).admitted());
+        assertEquals(2, buckets());
+
+        // no room: cho and dev share one bucket
+        assertTrue(limiter.acquire(RouteClass.READ, "cho", null, t).admitted());
+        assertEquals(RateLimiter.Scope.USER, limiter.acquire(RouteClass.READ, "dev", null, t).scope());
+        assertEquals(2, registry.get("ratelimit.overflow").counter().count());
+        assertEquals(2, buckets());
+
+        // ana and ben are full again one second in; only idle for the timeout after that
+        limiter.evictIdle(t + SECOND + IDLE.toNanos());
+        assertEquals(2, buckets());
+        limiter.acquire(RouteClass.READ, "ben", null, t + 2 * SECOND);
+        limiter.evictIdle(t + SECOND + IDLE.toNanos() + 1);
+        assertEquals(1, buckets());
+
+        // the freed slot goes to the next new key, which gets a full bucket of its own
+        long later = t + 2 * SECOND + IDLE.toNanos();
+        assertTrue(limiter.acquire(RouteClass.READ, "dev", null, later).admitted());
+        assertEquals(2, buckets());
+        assertEquals(2, registry.get("ratelimit.overflow").counter().count());
+    }
+
+    private double rejected(String scope) {
+        return registry.get("ratelimit.rejected").tags("route", "read", "scope", scope).counter().count();
+    }
+
+    private double buckets() {
+        return registry.get("ratelimit.buckets").gauge().value();
+    }
+
+    private RateLimiter limiter(int maxBuckets, RateLimitProperties.Budget tenant) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(maxBuckets);
+        properties.setIdleTimeout(IDLE);
+        properties.setRead(new RateLimitProperties.RouteBudget(new RateLimitProperties.Budget(1, 1), tenant));
+        return new RateLimiter(properties, registry);
+    }
+}
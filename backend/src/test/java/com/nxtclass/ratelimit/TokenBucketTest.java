@@ -0,0 +1,63 @@
+package com.nxtclass.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A bucket of 3 refilled at 2 per second: one token every 500 ms, full again 1.5 s after it was
+ * drained. Every call passes its own {@code now}, so the expected waits are exact.
+ */
+class TokenBucketTest {
+
+    private static final long T = 1_000_000_000_000L;
+    private static final long TOKEN = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final TokenBucket bucket = new TokenBucket(new RateLimitProperties.Budget(3, 2), T);
+
+    @Test
+    void burstUpToCapacityThenWaitForOneToken() {
+        assertEquals(0, bucket.tryAcquire(T));
+        assertEquals(0, bucket.tryAcquire(T));
+        assertEquals(0, bucket.tryAcquire(T));
+        assertEquals(TOKEN, bucket.tryAcquire(T));
+        // a rejected request does not take a token
+        assertEquals(TOKEN, bucket.tryAcquire(T));
+    }
+
+    @Test
+    void retryAfterShrinksAsTheBucketRefills() {
+        drain(T);
+        assertEquals(TOKEN - TimeUnit.MILLISECONDS.toNanos(200), bucket.tryAcquire(T + TimeUnit.MILLISECONDS.toNanos(200)));
+        assertEquals(0, bucket.tryAcquire(T + TOKEN));
+        assertEquals(TOKEN, bucket.tryAcquire(T + TOKEN));
+    }
+
+    @Test
+    void refillStopsAtCapacity() {
+        drain(T);
+        long muchLater = T + TimeUnit.HOURS.toNanos(1);
+        drain(muchLater);
+        assertEquals(TOKEN, bucket.tryAcquire(muchLater));
+    }
+
+    @Test
+    void idleOnlyOnceFullForTheWholeTimeout() {
+        long idle = TimeUnit.SECONDS.toNanos(10);
+        drain(T);
+        long full = T + 3 * TOKEN;
+        assertFalse(bucket.idleSince(full, idle));
+        assertFalse(bucket.idleSince(full + idle, idle));
+        assertTrue(bucket.idleSince(full + idle + 1, idle));
+    }
+
+    private void drain(long now) {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(now), "token " + (i + 1) + " of the burst");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+#!/bin/bash
+# Runs the school-day load test against a locally started backend on embedded H2.
+#
+# Requires: Java 17, Maven, curl. Extra arguments are passed to Gatling's Maven run, e.g.
+#   loadtest/run-local.sh -DrateScale=2 -DdurationSeconds=300
+# To test an already running backend instead: cd loadtest && mvn test-compile gatling:test -DbaseUrl=http://host:8080
+set -euo pipefail
+
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+echo "Building backend with the embedded-db profile..."
+(cd "$ROOT/backend" && mvn -B -q -Pembedded-db -DskipTests package)
+JAR=$(ls "$ROOT"/backend/target/*.jar | grep -v original | head -1)
+mkdir -p "$ROOT/loadtest/target"
+
+java -jar "$JAR" --spring.profiles.active=loadtest --server.port="$PORT" \
+  > "$ROOT/loadtest/target/backend.log" 2>&1 &
+BACKEND_PID=$!
+trap 'kill "$BACKEND_PID" 2>/dev/null || true; wait "$BACKEND_PID" 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 120); do
+  curl -fs "${BASE_URL}/actuator/health" > /dev/null && break
+  kill -0 "$BACKEND_PID" 2>/dev/null || { echo "Backend exited, see loadtest/target/backend.log" >&2; exit 1; }
+  sleep 1
+done
+curl -fs "${BASE_URL}/actuator/health" > /dev/null || { echo "Backend did not become healthy" >&2; exit 1; }
+
+cd "$ROOT/loadtest"
+mvn -B test-compile gatling:test -DbaseUrl="$BASE_URL" "$@"
@@ -0,0 +1,62 @@
+package com.nxtclass.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gatling.javaapi.core.Assertion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static io.gatling.javaapi.core.CoreDsl.details;
+import static io.gatling.javaapi.core.CoreDsl.global;
+
+/**
+ * Turns {@code baseline.json} into Gatling assertions. Each step's p50/p95/p99 may be up to
+ * {@code tolerance} slower than the baseline and its throughput up to {@code tolerance} lower
+ * (scaled by the run's rate factor); any failed assertion fails the Maven build. Until steps have
+ * been recorded with {@link BaselineUpdater} only the failed-request limit is checked.
+ */
+final class Baseline {
+
+    private Baseline() {
+    }
+
+    static List<Assertion> assertions(Path file, double rateScale) {
+        JsonNode baseline;
+        try {
+            baseline = new ObjectMapper().readTree(Files.readString(file));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read baseline " + file.toAbsolutePath(), e);
+        }
+        double tolerance = baseline.path("tolerance").asDouble(0.25);
+        List<Assertion> assertions = new ArrayList<>();
+        assertions.add(global().failedRequests().percent().lte(baseline.path("maxFailedPercent").asDouble(1.0)));
+
+        if (baseline.path("steps").isEmpty()) {
+            System.err.println("No step baselines in " + file + ": only failed requests are checked. "
+                    + "Record them from a reference run with BaselineUpdater.");
+        }
+        Iterator<Map.Entry<String, JsonNode>> steps = baseline.path("steps").fields();
+        while (steps.hasNext()) {
+            Map.Entry<String, JsonNode> step = steps.next();
+            JsonNode limits = step.getValue();
+            for (String percentile : List.of("p50", "p95", "p99")) {
+                if (limits.has(percentile)) {
+                    double rank = Double.parseDouble(percentile.substring(1));
+                    int limit = (int) Math.ceil(limits.get(percentile).asDouble() * (1 + tolerance));
+                    assertions.add(details(step.getKey()).responseTime().percentile(rank).lte(limit));
+                }
+            }
+            if (limits.has("throughput")) {
+                double floor = limits.get("throughput").asDouble() * rateScale * (1 - tolerance);
+                assertions.add(details(step.getKey()).requestsPerSec().gte(floor));
+            }
+        }
+        return assertions;
+    }
+}
@@ -0,0 +1,59 @@
+package com.nxtclass.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Rewrites {@code baseline.json} from the latest Gatling run ({@code target/gatling/<run>/js/stats.json}),
+ * keeping its tolerance settings. Run after an intentional performance change:
+ * {@code mvn compile exec:java}. Throughput is stored unscaled, so record baselines with {@code rateScale=1}.
+ */
+public final class BaselineUpdater {
+
+    private BaselineUpdater() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path baselineFile = Path.of(args.length > 0 ? args[0] : "baseline.json");
+        Path stats = latestStats(Path.of("target", "gatling"));
+        ObjectMapper json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        ObjectNode baseline = (ObjectNode) json.readTree(Files.readString(baselineFile));
+        ObjectNode steps = json.createObjectNode();
+        Iterator<Map.Entry<String, JsonNode>> contents = json.readTree(Files.readString(stats)).path("contents").fields();
+        while (contents.hasNext()) {
+            JsonNode request = contents.next().getValue();
+            if (!"REQUEST".equals(request.path("type").asText())) {
+                continue;
+            }
+            JsonNode s = request.path("stats");
+            ObjectNode step = steps.putObject(s.path("name").asText());
+            step.put("p50", s.path("percentiles1").path("total").asInt());
+            step.put("p95", s.path("percentiles3").path("total").asInt());
+            step.put("p99", s.path("percentiles4").path("total").asInt());
+            step.put("throughput", s.path("meanNumberOfRequestsPerSecond").path("total").asDouble());
+        }
+        baseline.set("steps", steps);
+        Files.writeString(baselineFile, json.writeValueAsString(baseline) + System.lineSeparator());
+        System.out.println("Updated " + baselineFile + " from " + stats);
+    }
+
+    private static Path latestStats(Path resultsDir) throws IOException {
+        try (Stream<Path> runs = Files.list(resultsDir)) {
+            return runs.map(run -> run.resolve("js").resolve("stats.json"))
+                    .filter(Files::exists)
+                    .max(Comparator.comparing(path -> path.getParent().getParent().getFileName().toString()))
+                    .orElseThrow(() -> new IOException("No Gatling results under " + resultsDir));
+        }
+    }
+}
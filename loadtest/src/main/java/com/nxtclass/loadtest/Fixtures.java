@@ -0,0 +1,122 @@
+package com.nxtclass.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logs in the seeded accounts once before the run and makes sure there is a grade with sections
+ * and students to publish assignments to. Journeys other than the login burst reuse these tokens,
+ * so BCrypt only dominates the step that is meant to measure it.
+ */
+final class Fixtures {
+
+    static final String PASSWORD = "Admin@123";
+    static final String ADMIN = "admin@nxtclass.com";
+    static final String TEACHER = "teacher@nxtclass.com";
+    static final String STUDENT = "student@nxtclass.com";
+
+    static volatile String adminToken;
+    static volatile String teacherToken;
+    static volatile String studentToken;
+    static volatile long gradeIdentifier;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    private Fixtures() {
+    }
+
+    static void prepare(String baseUrl, int students) {
+        try {
+            adminToken = login(baseUrl, ADMIN);
+            teacherToken = login(baseUrl, TEACHER);
+            studentToken = login(baseUrl, STUDENT);
+            gradeIdentifier = ensureGrade(baseUrl, students);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not prepare load-test fixtures against " + baseUrl, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String tokenFor(String role) {
+        return switch (role) {
+            case "orgadmin" -> adminToken;
+            case "teacher" -> teacherToken;
+            default -> studentToken;
+        };
+    }
+
+    /** The sample accounts are created just after startup, so a fresh backend may need a few seconds. */
+    private static String login(String baseUrl, String email) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                JsonNode response = send(baseUrl, "POST", "/api/auth/login", Map.of("email", email, "password", PASSWORD), null);
+                return response.get("token").asText();
+            } catch (IOException e) {
+                if (attempt == 30) {
+                    throw e;
+                }
+                Thread.sleep(1000);
+            }
+        }
+    }
+
+    private static long ensureGrade(String baseUrl, int students) throws IOException, InterruptedException {
+        JsonNode grades = send(baseUrl, "GET", "/api/grade/list", null, adminToken);
+        for (JsonNode grade : grades) {
+            if ("Load Test Grade".equals(grade.path("grade").asText())) {
+                return grade.get("identifier").asLong();
+            }
+        }
+        Map<String, Object> grade = new LinkedHashMap<>();
+        grade.put("grade", "Load Test Grade");
+        grade.put("description", "Created by the load-test suite");
+        List<Map<String, Object>> sections = new ArrayList<>();
+        for (String name : List.of("A", "B", "C", "D")) {
+            sections.add(Map.of("name", name));
+        }
+        grade.put("sections", sections);
+        long gradeId = send(baseUrl, "POST", "/api/grade/save", grade, adminToken).asLong();
+
+        for (int i = 0; i < students; i++) {
+            Map<String, Object> student = new LinkedHashMap<>();
+            student.put("firstName", "Student");
+            student.put("lastName", Integer.toString(i));
+            // the seeded student account is one of them, so "my pending work" has rows
+            student.put("email", i == 0 ? STUDENT : "loadtest.student" + i + "@nxtclass.com");
+            student.put("gradeIdentifier", gradeId);
+            send(baseUrl, "POST", "/api/student-details/save", student, adminToken);
+        }
+        return gradeId;
+    }
+
+    private static JsonNode send(String baseUrl, String method, String path, Object body, String token)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IOException(method + " " + path + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return JSON.readTree(response.body());
+    }
+}
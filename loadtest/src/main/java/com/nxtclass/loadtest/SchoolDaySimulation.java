@@ -0,0 +1,116 @@
+package com.nxtclass.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.listFeeder;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * A school morning as an open workload: users arrive at fixed rates whether or not the backend
+ * keeps up, so saturation shows as growing latency and falling throughput instead of being hidden
+ * by a closed loop of waiting users.
+ * <p>
+ * System properties: {@code baseUrl} (http://localhost:8080), {@code rateScale} (1.0, multiplies
+ * every arrival rate), {@code durationSeconds} (120), {@code baseline} (baseline.json),
+ * {@code fixtureStudents} (200).
+ */
+public class SchoolDaySimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final double RATE_SCALE = Double.parseDouble(System.getProperty("rateScale", "1.0"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 120));
+    private static final Duration RAMP = Duration.ofSeconds(Math.min(30, DURATION.toSeconds() / 4));
+    private static final Path BASELINE = Path.of(System.getProperty("baseline", "baseline.json"));
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .shareConnections();
+
+    /** Everyone signs in within the first minutes of the school day. */
+    private final ScenarioBuilder morningLogin = scenario("morning login burst")
+            .feed(listFeeder(List.of(
+                    Map.<String, Object>of("email", Fixtures.STUDENT),
+                    Map.<String, Object>of("email", Fixtures.TEACHER),
+                    Map.<String, Object>of("email", Fixtures.ADMIN))).circular())
+            .exec(http("login").post("/api/auth/login")
+                    .body(StringBody("{\"email\":\"#{email}\",\"password\":\"" + Fixtures.PASSWORD + "\"}"))
+                    .check(status().is(200), jsonPath("$.token").exists()));
+
+    private final ScenarioBuilder dashboard = scenario("dashboard load")
+            .feed(listFeeder(List.of(
+                    Map.<String, Object>of("role", "student"),
+                    Map.<String, Object>of("role", "student"),
+                    Map.<String, Object>of("role", "teacher"),
+                    Map.<String, Object>of("role", "orgadmin"))).circular())
+            .exec(http("dashboard").get("/api/dashboard")
+                    .header("Authorization", session -> "Bearer " + Fixtures.tokenFor(session.getString("role")))
+                    .check(status().is(200)));
+
+    private final ScenarioBuilder teacherRoster = scenario("teacher roster view")
+            .exec(http("roster: teachers").get("/api/teacher-details/list")
+                    .header("Authorization", session -> "Bearer " + Fixtures.teacherToken)
+                    .check(status().is(200)))
+            .exec(http("roster: grades").get("/api/grade/list")
+                    .header("Authorization", session -> "Bearer " + Fixtures.teacherToken)
+                    .check(status().is(200)))
+            .exec(http("roster: students").get("/api/student-details/list")
+                    .header("Authorization", session -> "Bearer " + Fixtures.teacherToken)
+                    .check(status().is(200)));
+
+    private final ScenarioBuilder assignmentPublish = scenario("assignment publish")
+            .exec(http("publish: create assignment").post("/api/assignments")
+                    .header("Authorization", session -> "Bearer " + Fixtures.teacherToken)
+                    .body(StringBody(session -> "{\"title\":\"Worksheet " + session.userId() + "\","
+                            + "\"subject\":\"Mathematics\",\"dueDate\":\"" + LocalDate.now().plusDays(7) + "\","
+                            + "\"totalPoints\":100,\"gradeIdentifier\":" + Fixtures.gradeIdentifier + "}"))
+                    .check(status().is(201), jsonPath("$.id").saveAs("assignmentId")))
+            .exec(http("publish: completion summary").get("/api/assignments/#{assignmentId}/submissions/summary")
+                    .header("Authorization", session -> "Bearer " + Fixtures.teacherToken)
+                    .check(status().is(200)));
+
+    private final ScenarioBuilder announcementFeed = scenario("announcement feed")
+            .exec(http("feed: recent announcements").get("/api/announcements/recent")
+                    .header("Authorization", session -> "Bearer " + Fixtures.studentToken)
+                    .check(status().is(200)))
+            .exec(http("feed: upcoming assignments").get("/api/assignments/upcoming")
+                    .header("Authorization", session -> "Bearer " + Fixtures.studentToken)
+                    .check(status().is(200)))
+            .exec(http("feed: my pending work").get("/api/submissions/mine")
+                    .header("Authorization", session -> "Bearer " + Fixtures.studentToken)
+                    .check(status().is(200)));
+
+    {
+        Duration steady = DURATION.minus(RAMP);
+        setUp(
+                morningLogin.injectOpen(
+                        rampUsersPerSec(2 * RATE_SCALE).to(20 * RATE_SCALE).during(RAMP),
+                        constantUsersPerSec(20 * RATE_SCALE).during(steady)),
+                dashboard.injectOpen(constantUsersPerSec(18 * RATE_SCALE).during(DURATION)),
+                teacherRoster.injectOpen(constantUsersPerSec(9 * RATE_SCALE).during(DURATION)),
+                assignmentPublish.injectOpen(constantUsersPerSec(4.5 * RATE_SCALE).during(DURATION)),
+                announcementFeed.injectOpen(constantUsersPerSec(27 * RATE_SCALE).during(DURATION))
+        ).protocols(httpProtocol)
+                .assertions(Baseline.assertions(BASELINE, RATE_SCALE));
+    }
+
+    @Override
+    public void before() {
+        Fixtures.prepare(BASE_URL, Integer.getInteger("fixtureStudents", 200));
+    }
+}